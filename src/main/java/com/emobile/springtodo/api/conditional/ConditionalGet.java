@@ -0,0 +1,119 @@
+package com.emobile.springtodo.api.conditional;
+
+import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.entity.dto.UserDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ConditionalGet {
+
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON,
+            new MediaType("application", "x-jackson-smile"),
+            MediaType.APPLICATION_CBOR
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    public ConditionalGet(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("http.etag.not_modified.ratio", this, ConditionalGet::getNotModifiedRatio)
+                .register(meterRegistry);
+    }
+
+    public boolean notModified(WebRequest request, String endpoint, String etag) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null && !response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+        boolean matched = request.checkNotModified(forRepresentation(etag, request.getHeader(HttpHeaders.ACCEPT)));
+        requests.increment();
+        if (matched) {
+            notModified.increment();
+        }
+        counters.computeIfAbsent(endpoint + (matched ? ":304" : ":200"), key -> meterRegistry.counter(
+                "http.etag.requests", "endpoint", endpoint, "result", matched ? "not_modified" : "modified"
+        )).increment();
+        return matched;
+    }
+
+    public double getNotModifiedRatio() {
+        long total = requests.sum();
+        return total == 0 ? 0 : (double) notModified.sum() / total;
+    }
+
+    public static String taskETag(TaskDto task) {
+        return "W/\"task-" + task.getId() + "-" + Objects.requireNonNullElse(task.getVersion(), 0L) + "\"";
+    }
+
+    public static String taskListETag(String namespace, String page) {
+        return "W/\"tasks-" + namespace + "-" + Long.toHexString(mix(Objects.hashCode(page))) + "\"";
+    }
+
+    public static String userETag(UserDto user) {
+        long hash = mix(Objects.requireNonNullElse(user.getId(), 0L));
+        hash = mix(hash ^ Objects.hashCode(user.getUsername()));
+        hash = mix(hash ^ Objects.hashCode(user.getEmail()));
+        return "W/\"user-" + user.getId() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    static String forRepresentation(String etag, String accept) {
+        MediaType representation = negotiate(accept);
+        if (representation.equals(MediaType.APPLICATION_JSON)) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + representation.getSubtype() + "\"";
+    }
+
+    private static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (InvalidMediaTypeException | InvalidMimeTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType representation : REPRESENTATIONS) {
+                if (mediaType.isCompatibleWith(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
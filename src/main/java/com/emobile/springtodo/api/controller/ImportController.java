@@ -0,0 +1,69 @@
+package com.emobile.springtodo.api.controller;
+
+import com.emobile.springtodo.api.mapper.ResponseMapper;
+import com.emobile.springtodo.api.output.ApiResponse;
+import com.emobile.springtodo.api.output.importing.ImportResponse;
+import com.emobile.springtodo.core.exception.ImportException;
+import com.emobile.springtodo.core.service.importing.ImportFormat;
+import com.emobile.springtodo.core.service.importing.ImportReport;
+import com.emobile.springtodo.core.service.importing.ImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/todo/import")
+public class ImportController {
+
+    private final ImportService importService;
+    private final ResponseMapper responseMapper;
+
+    @Autowired
+    public ImportController(ImportService importService, ResponseMapper responseMapper) {
+        this.importService = importService;
+        this.responseMapper = responseMapper;
+    }
+
+    @PostMapping(value = "/users", consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ApiResponse<ImportResponse> importUsers(HttpServletRequest request) throws IOException, ImportException {
+        ImportReport report = importService.importUsers(
+                request.getInputStream(),
+                ImportFormat.fromContentType(request.getContentType())
+        );
+        return new ApiResponse<>(
+                responseMapper.importReportToResponse(report),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping(value = "/tasks", consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ApiResponse<ImportResponse> importTasks(HttpServletRequest request) throws IOException, ImportException {
+        ImportReport report = importService.importTasks(
+                request.getInputStream(),
+                ImportFormat.fromContentType(request.getContentType())
+        );
+        return new ApiResponse<>(
+                responseMapper.importReportToResponse(report),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping("/users/file")
+    public ApiResponse<ImportResponse> importUsersFromFile(@RequestParam("name") String name) throws ImportException {
+        return new ApiResponse<>(
+                responseMapper.importReportToResponse(importService.importUsers(name)),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping("/tasks/file")
+    public ApiResponse<ImportResponse> importTasksFromFile(@RequestParam("name") String name) throws ImportException {
+        return new ApiResponse<>(
+                responseMapper.importReportToResponse(importService.importTasks(name)),
+                HttpStatus.CREATED
+        );
+    }
+}
@@ -1,19 +1,49 @@
 package com.emobile.springtodo.api.controller;
 
+import com.emobile.springtodo.api.conditional.ConditionalGet;
+import com.emobile.springtodo.api.input.CreateTaskBatchRequest;
 import com.emobile.springtodo.api.input.CreateTaskRequest;
+import com.emobile.springtodo.api.input.UpdateTaskRequest;
 import com.emobile.springtodo.api.mapper.ResponseMapper;
 import com.emobile.springtodo.api.output.ApiResponse;
 import com.emobile.springtodo.api.output.task.ListTaskResponse;
+import com.emobile.springtodo.api.output.task.SearchTaskResponse;
 import com.emobile.springtodo.api.output.task.TaskResponse;
+import com.emobile.springtodo.api.output.task.TaskStatsResponse;
+import com.emobile.springtodo.api.stream.TaskEventStreams;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
 import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.entity.dto.TaskSearchDto;
+import com.emobile.springtodo.core.entity.dto.TaskStatsDto;
 import com.emobile.springtodo.core.exception.AccessRightsException;
+import com.emobile.springtodo.core.exception.InvalidCursorException;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.exception.TooManyIdsException;
+import com.emobile.springtodo.core.exception.TooManySubscribersException;
+import com.emobile.springtodo.core.exception.VersionConflictException;
 import com.emobile.springtodo.core.service.TaskService;
+import com.emobile.springtodo.core.service.UserService;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.pagination.TaskFilter;
+import com.emobile.springtodo.core.service.pagination.TaskSort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -26,20 +56,92 @@ public class TaskController {
     @Autowired
     private ResponseMapper responseMapper;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskEventStreams taskEventStreams;
+
+    @Autowired
+    private ConditionalGet conditionalGet;
+
+    @Autowired
+    private UserTaskCacheKeys userTaskCacheKeys;
+
     @GetMapping("/{id}")
-    public ApiResponse<TaskResponse> getTask(@PathVariable("id") Long id) throws ObjectNotFoundException {
+    public ApiResponse<TaskResponse> getTask(@PathVariable("id") Long id, WebRequest webRequest) throws ObjectNotFoundException {
         TaskDto task = taskService.getTaskById(id);
+        if (conditionalGet.notModified(webRequest, "task", ConditionalGet.taskETag(task))) {
+            return null;
+        }
         return new ApiResponse<>(
                 responseMapper.taskToResponse(task),
                 HttpStatus.OK
         );
     }
 
+    @GetMapping(params = "ids")
+    public ApiResponse<List<TaskResponse>> getTasks(@RequestParam("ids") List<Long> ids) throws TooManyIdsException {
+        List<TaskDto> tasks = taskService.getTasksByIds(ids);
+        return new ApiResponse<>(
+                responseMapper.tasksToResponse(tasks),
+                HttpStatus.OK
+        );
+    }
+
     @GetMapping("/user/{userId}")
     public ApiResponse<ListTaskResponse> getTasks(
             @PathVariable("userId") Long userId,
             @RequestParam(value = "limit", defaultValue = "10") int limit,
-            @RequestParam(value = "offset", defaultValue = "0") int offset) throws ObjectNotFoundException {
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "status", required = false) TaskStatus status,
+            @RequestParam(value = "deadlineFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineFrom,
+            @RequestParam(value = "deadlineTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineTo,
+            @RequestParam(value = "sort", required = false) TaskSort sort,
+            @RequestParam(value = "direction", required = false) Sort.Direction direction,
+            WebRequest webRequest) throws ObjectNotFoundException, InvalidCursorException {
+        TaskFilter filter = new TaskFilter(
+                status,
+                deadlineFrom != null ? Timestamp.valueOf(deadlineFrom) : null,
+                deadlineTo != null ? Timestamp.valueOf(deadlineTo) : null,
+                sort,
+                direction
+        );
+        if (!filter.isDefault()) {
+            if (after != null) {
+                throw new InvalidCursorException("Cursor paging is only supported without filters and sorting", Timestamp.from(Instant.now()));
+            }
+            if (conditionalGet.notModified(webRequest, "tasksByUser", ConditionalGet.taskListETag(
+                    userTaskCacheKeys.namespace(userId), limit + "," + offset + "," + filter.cacheKey()))) {
+                return null;
+            }
+            List<TaskDto> tasks = taskService.getTasksByUser(userId, filter, limit, offset);
+            Long total = taskService.getTaskCountByUser(userId, filter);
+            return new ApiResponse<>(
+                    responseMapper.listTaskToResponse(tasks, total, limit, offset),
+                    HttpStatus.OK
+            );
+        }
+        if (after != null) {
+            if (conditionalGet.notModified(webRequest, "tasksByUser", ConditionalGet.taskListETag(
+                    userTaskCacheKeys.namespace(userId), limit + ",after=" + after))) {
+                return null;
+            }
+            List<TaskDto> tasks = taskService.getTasksByUser(userId, limit, after);
+            Long total = taskService.getTaskCountByUser(userId);
+            return new ApiResponse<>(
+                    responseMapper.listTaskToResponse(tasks, total, limit, after),
+                    HttpStatus.OK
+            );
+        }
+        if (conditionalGet.notModified(webRequest, "tasksByUser", ConditionalGet.taskListETag(
+                userTaskCacheKeys.namespace(userId), limit + "," + offset))) {
+            return null;
+        }
         List<TaskDto> tasks = taskService.getTasksByUser(userId, limit, offset);
         Long total = taskService.getTaskCountByUser(userId);
         return new ApiResponse<>(
@@ -48,6 +150,55 @@ public class TaskController {
         );
     }
 
+    @GetMapping("/user/{userId}/search")
+    public ApiResponse<SearchTaskResponse> searchTasks(
+            @PathVariable("userId") Long userId,
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "after", required = false) String after) throws ObjectNotFoundException, InvalidCursorException {
+        TaskSearchDto search = taskService.searchTasksByUser(userId, query, limit, after);
+        return new ApiResponse<>(
+                responseMapper.taskSearchToResponse(search, limit),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/user/{userId}/stats")
+    public ApiResponse<TaskStatsResponse> getTaskStats(@PathVariable("userId") Long userId) throws ObjectNotFoundException {
+        TaskStatsDto stats = taskService.getTaskStatsByUser(userId);
+        return new ApiResponse<>(
+                responseMapper.taskStatsToResponse(stats),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping(value = "/user/{userId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportTasks(@PathVariable("userId") Long userId) throws ObjectNotFoundException {
+        userService.findUserById(userId);
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class);
+        return outputStream -> {
+            try {
+                taskService.exportTasksByUser(userId, task -> {
+                    try {
+                        outputStream.write(writer.writeValueAsBytes(responseMapper.taskToResponse(task)));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    @GetMapping(value = "/user/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@PathVariable("userId") Long userId)
+            throws ObjectNotFoundException, TooManySubscribersException {
+        userService.findUserById(userId);
+        return taskEventStreams.subscribe(userId);
+    }
+
     @PostMapping
     public ApiResponse<TaskResponse> createTask(@Valid @RequestBody CreateTaskRequest request) throws ObjectNotFoundException {
         TaskDto task = taskService.createTask(request);
@@ -57,6 +208,25 @@ public class TaskController {
         );
     }
 
+    @PostMapping("/batch")
+    public ApiResponse<List<TaskResponse>> createTasks(@Valid @RequestBody CreateTaskBatchRequest request) throws ObjectNotFoundException {
+        List<TaskDto> tasks = taskService.createTasks(request.getTasks());
+        return new ApiResponse<>(
+                responseMapper.tasksToResponse(tasks),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PatchMapping("/{id}")
+    public ApiResponse<TaskResponse> updateTask(@PathVariable("id") Long id, @Valid @RequestBody UpdateTaskRequest request)
+            throws AccessRightsException, ObjectNotFoundException, VersionConflictException {
+        TaskDto task = taskService.updateTask(id, request);
+        return new ApiResponse<>(
+                responseMapper.taskToResponse(task),
+                HttpStatus.OK
+        );
+    }
+
     @PostMapping("/start/{id}")
     public ApiResponse<TaskResponse> startTask(@PathVariable("id") Long id, @RequestBody Long userId) throws AccessRightsException, ObjectNotFoundException {
         TaskDto task = taskService.startTask(id, userId);
@@ -1,17 +1,21 @@
 package com.emobile.springtodo.api.controller;
 
+import com.emobile.springtodo.api.conditional.ConditionalGet;
 import com.emobile.springtodo.api.input.CreateUserRequest;
 import com.emobile.springtodo.api.mapper.ResponseMapper;
 import com.emobile.springtodo.api.output.ApiResponse;
+import com.emobile.springtodo.api.output.user.UserDeletionResponse;
 import com.emobile.springtodo.api.output.user.UserResponse;
 import com.emobile.springtodo.core.entity.dto.UserDto;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
 import com.emobile.springtodo.core.exception.UserAlreadyExistsException;
 import com.emobile.springtodo.core.service.UserService;
+import com.emobile.springtodo.core.service.deletion.UserDeletionJob;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/todo/user")
@@ -19,16 +23,21 @@ public class UserController {
 
     private final UserService userService;
     private final ResponseMapper responseMapper;
+    private final ConditionalGet conditionalGet;
 
     @Autowired
-    public UserController(UserService userService, ResponseMapper responseMapper) {
+    public UserController(UserService userService, ResponseMapper responseMapper, ConditionalGet conditionalGet) {
         this.userService = userService;
         this.responseMapper = responseMapper;
+        this.conditionalGet = conditionalGet;
     }
 
     @GetMapping("/{id}")
-    public ApiResponse<UserResponse> getUser(@PathVariable("id") Long id) throws ObjectNotFoundException {
+    public ApiResponse<UserResponse> getUser(@PathVariable("id") Long id, WebRequest webRequest) throws ObjectNotFoundException {
         UserDto user = userService.getUserDtoById(id);
+        if (conditionalGet.notModified(webRequest, "user", ConditionalGet.userETag(user))) {
+            return null;
+        }
         return new ApiResponse<>(
                 responseMapper.userToResponse(user),
                 HttpStatus.OK
@@ -45,10 +54,19 @@ public class UserController {
     }
 
     @DeleteMapping("/{id}")
-    public ApiResponse<Void> deleteUser(@PathVariable("id") Long id) {
-        userService.deleteUser(id);
+    public ApiResponse<UserDeletionResponse> deleteUser(@PathVariable("id") Long id) throws ObjectNotFoundException {
+        UserDeletionJob job = userService.deleteUser(id);
         return new ApiResponse<>(
-                Void.TYPE.cast(null),
+                responseMapper.userDeletionToResponse(job),
+                HttpStatus.ACCEPTED
+        );
+    }
+
+    @GetMapping("/{id}/deletion")
+    public ApiResponse<UserDeletionResponse> getDeletion(@PathVariable("id") Long id) throws ObjectNotFoundException {
+        UserDeletionJob job = userService.getDeletionJob(id);
+        return new ApiResponse<>(
+                responseMapper.userDeletionToResponse(job),
                 HttpStatus.OK
         );
     }
@@ -5,8 +5,13 @@ import com.emobile.springtodo.api.output.error.ResponseError;
 import com.emobile.springtodo.api.output.error.ResponseValidError;
 import com.emobile.springtodo.api.output.error.ValidError;
 import com.emobile.springtodo.core.exception.AccessRightsException;
+import com.emobile.springtodo.core.exception.ImportException;
+import com.emobile.springtodo.core.exception.InvalidCursorException;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.exception.TooManyIdsException;
+import com.emobile.springtodo.core.exception.TooManySubscribersException;
 import com.emobile.springtodo.core.exception.UserAlreadyExistsException;
+import com.emobile.springtodo.core.exception.VersionConflictException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -60,6 +65,52 @@ public class GlobalControllerHandler {
     @ResponseBody
     public ApiResponse<ResponseError> methodUserAlreadyExistsException(UserAlreadyExistsException e) {
         log.error("A User Already Exists with such data");
+        return new ApiResponse<>(
+                ResponseError.builder()
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .message(e.getMessage())
+                        .field(e.getColumn())
+                        .timestamp(e.getTimestamp())
+                        .build(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ResponseBody
+    public ApiResponse<ResponseError> methodVersionConflictException(VersionConflictException e) {
+        log.warn("Task update rejected because of a stale version");
+        return getResponseError(HttpStatus.CONFLICT, e.getMessage(), e.getTimestamp());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ApiResponse<ResponseError> methodInvalidCursorException(InvalidCursorException e) {
+        log.warn("The pagination cursor is not valid");
+        return getResponseError(HttpStatus.BAD_REQUEST, e.getMessage(), e.getTimestamp());
+    }
+
+    @ExceptionHandler(TooManyIdsException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ApiResponse<ResponseError> methodTooManyIdsException(TooManyIdsException e) {
+        log.warn("Too many ids requested at once");
+        return getResponseError(HttpStatus.BAD_REQUEST, e.getMessage(), e.getTimestamp());
+    }
+
+    @ExceptionHandler(TooManySubscribersException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ApiResponse<ResponseError> methodTooManySubscribersException(TooManySubscribersException e) {
+        log.warn("Task event subscriber limit reached");
+        return getResponseError(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e.getTimestamp());
+    }
+
+    @ExceptionHandler(ImportException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ApiResponse<ResponseError> methodImportException(ImportException e) {
+        log.error("Import failed: {}", e.getMessage());
         return getResponseError(HttpStatus.BAD_REQUEST, e.getMessage(), e.getTimestamp());
     }
 
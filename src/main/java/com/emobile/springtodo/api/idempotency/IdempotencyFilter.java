@@ -0,0 +1,182 @@
+package com.emobile.springtodo.api.idempotency;
+
+import com.emobile.springtodo.api.output.ApiResponse;
+import com.emobile.springtodo.api.output.error.ResponseError;
+import com.emobile.springtodo.core.exception.IdempotencyConflictException;
+import com.emobile.springtodo.core.exception.IdempotencyKeyReusedException;
+import com.emobile.springtodo.core.service.idempotency.IdempotencyStore;
+import com.emobile.springtodo.core.service.idempotency.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HexFormat;
+
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final int maxKeyLength;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper, int maxKeyLength) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > maxKeyLength) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be between 1 and " + maxKeyLength + " characters");
+            return;
+        }
+        String key = request.getRequestURI() + ":" + idempotencyKey;
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(request.getHeader(HttpHeaders.ACCEPT), cachedRequest.body);
+
+        StoredResponse stored;
+        try {
+            stored = idempotencyStore.claim(key, fingerprint);
+        } catch (IdempotencyConflictException e) {
+            writeError(response, HttpStatus.CONFLICT, e.getMessage());
+            return;
+        } catch (IdempotencyKeyReusedException e) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+            return;
+        }
+        if (stored != null) {
+            response.setStatus(stored.status());
+            response.setContentType(stored.contentType());
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.getOutputStream().write(stored.body());
+            return;
+        }
+
+        ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(cachedRequest, captured);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyStore.release(key);
+            throw e;
+        }
+        if (captured.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            idempotencyStore.release(key);
+        } else {
+            idempotencyStore.complete(key, new StoredResponse(
+                    captured.getStatus(),
+                    captured.getContentType(),
+                    captured.getContentAsByteArray(),
+                    fingerprint
+            ));
+        }
+        captured.copyBodyToResponse();
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        log.warn("Rejected request with Idempotency-Key: {}", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ApiResponse<>(
+                ResponseError.builder()
+                        .status(status.value())
+                        .message(message)
+                        .timestamp(Timestamp.from(Instant.now()))
+                        .build(),
+                status
+        ));
+    }
+
+    static String fingerprint(String accept, byte[] body) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        digest.update((accept != null ? accept : "").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return HexFormat.of().formatHex(digest.digest(body));
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Request body is already buffered");
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.emobile.springtodo.api.input;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class CreateTaskBatchRequest implements Serializable {
+
+    @NotEmpty(message = "Tasks must be specified")
+    @Size(max = 1000, message = "No more than 1000 tasks can be created at once")
+    private List<@Valid CreateTaskRequest> tasks;
+}
@@ -0,0 +1,44 @@
+package com.emobile.springtodo.api.input;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class UpdateTaskRequest implements Serializable {
+
+    @NotNull(message = "User ID must be specified")
+    @Positive(message = "ID must be positive")
+    private Long userId;
+
+    @NotNull(message = "Version must be specified")
+    @PositiveOrZero(message = "Version cannot be negative")
+    private Long version;
+
+    @Pattern(regexp = ".*\\S.*", message = "Title cannot be blank")
+    private String title;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Description cannot be blank")
+    private String description;
+
+    @FutureOrPresent(message = "Deadline cannot be earlier than today")
+    private Timestamp deadline;
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one field must be changed")
+    public boolean isAnyFieldChanged() {
+        return title != null || description != null || deadline != null;
+    }
+}
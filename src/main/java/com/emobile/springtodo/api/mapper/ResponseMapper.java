@@ -1,10 +1,19 @@
 package com.emobile.springtodo.api.mapper;
 
+import com.emobile.springtodo.api.output.importing.ImportResponse;
 import com.emobile.springtodo.api.output.task.TaskResponse;
+import com.emobile.springtodo.api.output.task.TaskStatsResponse;
 import com.emobile.springtodo.api.output.task.ListTaskResponse;
+import com.emobile.springtodo.api.output.task.SearchTaskResponse;
+import com.emobile.springtodo.api.output.user.UserDeletionResponse;
 import com.emobile.springtodo.api.output.user.UserResponse;
 import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.entity.dto.TaskSearchDto;
+import com.emobile.springtodo.core.entity.dto.TaskStatsDto;
 import com.emobile.springtodo.core.entity.dto.UserDto;
+import com.emobile.springtodo.core.service.deletion.UserDeletionJob;
+import com.emobile.springtodo.core.service.importing.ImportReport;
+import com.emobile.springtodo.core.service.pagination.TaskCursor;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
@@ -16,9 +25,17 @@ public interface ResponseMapper {
 
     TaskResponse taskToResponse(TaskDto taskDto);
 
+    List<TaskResponse> tasksToResponse(List<TaskDto> tasks);
+
+    TaskStatsResponse taskStatsToResponse(TaskStatsDto taskStats);
+
     @Mapping(source = "id", target = "id")
     UserResponse userToResponse(UserDto userDto);
 
+    ImportResponse importReportToResponse(ImportReport report);
+
+    UserDeletionResponse userDeletionToResponse(UserDeletionJob job);
+
     default ListTaskResponse listTaskToResponse(List<TaskDto> tasks, long total, int limit, int offset) {
         ListTaskResponse response = new ListTaskResponse();
         response.setTasks(
@@ -31,4 +48,16 @@ public interface ResponseMapper {
         response.setOffset(offset);
         return response;
     }
+
+    default SearchTaskResponse taskSearchToResponse(TaskSearchDto search, int limit) {
+        return new SearchTaskResponse(tasksToResponse(search.getTasks()), limit, search.getNextCursor());
+    }
+
+    default ListTaskResponse listTaskToResponse(List<TaskDto> tasks, long total, int limit, String after) {
+        ListTaskResponse response = listTaskToResponse(tasks, total, limit, 0);
+        if (!tasks.isEmpty() && tasks.size() == limit) {
+            response.setNextCursor(TaskCursor.encode(tasks.get(tasks.size() - 1).getId()));
+        }
+        return response;
+    }
 }
@@ -1,6 +1,7 @@
 package com.emobile.springtodo.api.output.error;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,6 +13,9 @@ public class ResponseError {
     private int status;
     private String message;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String field;
+
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss.S")
     private Timestamp timestamp;
 }
@@ -13,7 +13,7 @@ public class ResponseValidError extends ResponseError {
     private List<ValidError> errors;
 
    public ResponseValidError(int status, String message, Timestamp timestamp, List<ValidError> errors) {
-        super(status, message, timestamp);
+        super(status, message, null, timestamp);
         this.errors = errors;
     }
 }
@@ -0,0 +1,17 @@
+package com.emobile.springtodo.api.output.importing;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class ImportResponse {
+    private long imported;
+    private long rejected;
+    private long skipped;
+    private int chunks;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+}
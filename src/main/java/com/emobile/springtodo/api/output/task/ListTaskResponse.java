@@ -1,5 +1,6 @@
 package com.emobile.springtodo.api.output.task;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,11 @@ public class ListTaskResponse {
     private long total;
     private int limit;
     private int offset;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ListTaskResponse(List<TaskResponse> tasks, long total, int limit, int offset) {
+        this(tasks, total, limit, offset, null);
+    }
 }
@@ -0,0 +1,21 @@
+package com.emobile.springtodo.api.output.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class SearchTaskResponse {
+    private List<TaskResponse> tasks;
+    private int limit;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
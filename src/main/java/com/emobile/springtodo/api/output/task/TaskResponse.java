@@ -26,4 +26,6 @@ public class TaskResponse {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss.S")
     private Timestamp end;
+
+    private Long version;
 }
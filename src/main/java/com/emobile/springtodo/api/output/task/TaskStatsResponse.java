@@ -0,0 +1,17 @@
+package com.emobile.springtodo.api.output.task;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskStatsResponse {
+    private Long userId;
+    private long total;
+    private long todo;
+    private long inProgress;
+    private long done;
+    private long overdue;
+}
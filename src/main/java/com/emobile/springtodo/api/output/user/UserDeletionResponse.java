@@ -0,0 +1,20 @@
+package com.emobile.springtodo.api.output.user;
+
+import com.emobile.springtodo.core.service.deletion.UserDeletionStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class UserDeletionResponse {
+    private Long userId;
+    private UserDeletionStatus status;
+    private long tasksDeleted;
+    private Timestamp createdAt;
+    private Timestamp finishedAt;
+    private String error;
+}
@@ -0,0 +1,258 @@
+package com.emobile.springtodo.api.stream;
+
+import com.emobile.springtodo.api.mapper.ResponseMapper;
+import com.emobile.springtodo.core.config.properties.AppTaskEventsProperties;
+import com.emobile.springtodo.core.exception.TooManySubscribersException;
+import com.emobile.springtodo.core.service.events.TaskChangedEvent;
+import com.emobile.springtodo.core.service.overdue.TasksOverdueEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class TaskEventStreams {
+
+    private static final String OVERDUE_EVENT = "overdue";
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private final ResponseMapper responseMapper;
+    private final ObjectMapper objectMapper;
+    private final AppTaskEventsProperties eventsProperties;
+    private final ConcurrentHashMap<Long, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedCounter;
+    private final ExecutorService writers;
+    private final ScheduledExecutorService heartbeat;
+
+    public TaskEventStreams(ResponseMapper responseMapper,
+                            ObjectMapper objectMapper,
+                            AppTaskEventsProperties eventsProperties,
+                            MeterRegistry meterRegistry) {
+        this.responseMapper = responseMapper;
+        this.objectMapper = objectMapper;
+        this.eventsProperties = eventsProperties;
+        this.droppedCounter = meterRegistry.counter("tasks.events.dropped.total");
+        meterRegistry.gauge("tasks.events.subscribers", subscriberCount);
+        this.writers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-events-", 0).factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-events-heartbeat-"));
+        long heartbeatMillis = eventsProperties.getHeartbeat().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        long stallCheckMillis = Math.max(1, eventsProperties.getWriteTimeout().toMillis() / 2);
+        heartbeat.scheduleAtFixedRate(this::dropStalled, stallCheckMillis, stallCheckMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long userId) throws TooManySubscribersException {
+        SseEmitter emitter = new SseEmitter(eventsProperties.getTimeout().toMillis());
+        subscribe(userId, emitter);
+        return emitter;
+    }
+
+    void subscribe(Long userId, SseEmitter emitter) throws TooManySubscribersException {
+        if (subscriberCount.incrementAndGet() > eventsProperties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new TooManySubscribersException("Too many task event subscribers, try again later", Timestamp.from(Instant.now()));
+        }
+        Subscriber subscriber = new Subscriber(userId, emitter, eventsProperties.getBufferSize());
+        subscribers.compute(userId, (id, current) -> {
+            if (current == null) {
+                return new Subscriber[]{subscriber};
+            }
+            Subscriber[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = subscriber;
+            return grown;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Subscriber[] targets = subscribers.get(event.task().getUserId());
+        if (targets == null) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .name(event.type().getEventName())
+                    .data(objectMapper.writeValueAsString(responseMapper.taskToResponse(event.task())))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize task {} for event stream", event.task().getId(), e);
+            return;
+        }
+        offer(targets, frame);
+    }
+
+    @EventListener
+    public void onTasksOverdue(TasksOverdueEvent event) {
+        Subscriber[] targets = subscribers.get(event.userId());
+        if (targets == null) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .name(OVERDUE_EVENT)
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize overdue count of user {} for event stream", event.userId(), e);
+            return;
+        }
+        offer(targets, frame);
+    }
+
+    private void offer(Subscriber[] targets, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(frame);
+        }
+    }
+
+    void sendHeartbeat() {
+        for (Subscriber[] targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    void dropStalled() {
+        long now = System.nanoTime();
+        long writeTimeout = eventsProperties.getWriteTimeout().toNanos();
+        for (Subscriber[] targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (subscriber.writing && now - subscriber.writeStartedAt > writeTimeout) {
+                    subscriber.drop("write stalled for more than " + eventsProperties.getWriteTimeout());
+                }
+            }
+        }
+    }
+
+    private boolean unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.computeIfPresent(subscriber.userId, (id, current) -> {
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscriber) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return current;
+            }
+            if (current.length == 1) {
+                return null;
+            }
+            Subscriber[] shrunk = new Subscriber[current.length - 1];
+            System.arraycopy(current, 0, shrunk, 0, index);
+            System.arraycopy(current, index + 1, shrunk, index, current.length - index - 1);
+            return shrunk;
+        });
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Runnable drainTask = this::drain;
+        private volatile boolean dropped;
+        private volatile long writeStartedAt;
+        private volatile boolean writing;
+
+        private Subscriber(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(frame)) {
+                drop("event buffer is full");
+            }
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(drainTask);
+            }
+        }
+
+        private void drop(String reason) {
+            dropped = true;
+            buffer.clear();
+            if (unsubscribe(this)) {
+                droppedCounter.increment();
+                log.warn("Dropping slow task event subscriber of user {}: {}", userId, reason);
+            }
+        }
+
+        private void drain() {
+            do {
+                if (dropped) {
+                    buffer.clear();
+                    emitter.complete();
+                    return;
+                }
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while ((frame = buffer.poll()) != null && !dropped) {
+                    writeStartedAt = System.nanoTime();
+                    writing = true;
+                    try {
+                        emitter.send(frame);
+                    } catch (IOException | IllegalStateException e) {
+                        buffer.clear();
+                        unsubscribe(this);
+                        return;
+                    } finally {
+                        writing = false;
+                    }
+                }
+                draining.set(false);
+            } while ((dropped || !buffer.isEmpty()) && draining.compareAndSet(false, true));
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.emobile.springtodo.api.input.CreateTaskRequest;
 import com.emobile.springtodo.api.output.task.ListTaskResponse;
 import com.emobile.springtodo.api.output.task.TaskResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -110,6 +112,8 @@ public interface ITaskController {
     @Operation(
             summary = "Сохранение задачи",
             description = "Сохраняет задачу",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Ключ идемпотентности: повтор запроса с тем же ключом возвращает первый ответ"),
             responses = {
                     @ApiResponse(
                             description = "Задача сохранена",
@@ -157,6 +161,8 @@ public interface ITaskController {
             summary = "Обновление задачи",
 
             description = "Старт задачи по id",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Ключ идемпотентности: повтор запроса с тем же ключом возвращает первый ответ"),
             responses = {
                     @ApiResponse(
                             description = "Задача обновлена",
@@ -222,6 +228,8 @@ public interface ITaskController {
             summary = "Обновление задачи",
 
             description = "Окончание задачи по id",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Ключ идемпотентности: повтор запроса с тем же ключом возвращает первый ответ"),
             responses = {
                     @ApiResponse(
                             description = "Задача обновлена",
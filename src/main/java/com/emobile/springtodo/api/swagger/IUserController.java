@@ -1,8 +1,11 @@
 package com.emobile.springtodo.api.swagger;
 
 import com.emobile.springtodo.api.input.CreateUserRequest;
+import com.emobile.springtodo.api.output.user.UserDeletionResponse;
 import com.emobile.springtodo.api.output.user.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -58,6 +61,8 @@ public interface IUserController {
     @Operation(
             summary = "Сохранение пользователя",
             description = "Сохраняет задачу",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Ключ идемпотентности: повтор запроса с тем же ключом возвращает первый ответ"),
             responses = {
                     @ApiResponse(
                             description = "Пользователь сохранен",
@@ -98,20 +103,61 @@ public interface IUserController {
 
     @Operation(
             summary = "Удаление пользователя",
-            description = "Удаление пользователя по id",
+            description = "Помечает пользователя удаленным и запускает фоновое удаление его задач порциями",
             responses = {
                     @ApiResponse(
-                            description = "Пользователь удален",
-                            responseCode = "200",
+                            description = "Удаление пользователя запущено",
+                            responseCode = "202",
                             content = @Content(
+                                    mediaType = "application/json",
                                     examples = {
                                             @ExampleObject(
-                                                    value = "SUCCESS"
+                                                    value = """
+                                                            {
+                                                                "userId": 7,
+                                                                "status": "PENDING",
+                                                                "tasksDeleted": 0,
+                                                                "createdAt": "2023-04-12 14:30:00"
+                                                            }
+                                                            """
                                             )
                                     }
+                            )),
+                    @ApiResponse(
+                            description = "Пользователь не найден",
+                            responseCode = "404",
+                            content = @Content(mediaType = "application/json"))
+            }
+    )
+    ResponseEntity<UserDeletionResponse> deleteUser(Long id);
 
-                            ))
+    @Operation(
+            summary = "Прогресс удаления пользователя",
+            description = "Состояние фонового удаления пользователя и количество уже удаленных задач",
+            responses = {
+                    @ApiResponse(
+                            description = "Состояние удаления",
+                            responseCode = "200",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "userId": 7,
+                                                                "status": "RUNNING",
+                                                                "tasksDeleted": 12000,
+                                                                "createdAt": "2023-04-12 14:30:00"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )),
+                    @ApiResponse(
+                            description = "Удаление пользователя не запускалось",
+                            responseCode = "404",
+                            content = @Content(mediaType = "application/json"))
             }
     )
-    ResponseEntity<Void> deleteUser(Long id);
+    ResponseEntity<UserDeletionResponse> getDeletion(Long id);
 }
@@ -0,0 +1,10 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.core.config.properties.AppBloomProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AppBloomProperties.class)
+public class BloomFilterConfig {
+}
@@ -0,0 +1,37 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.core.config.properties.AppReplicaProperties;
+import com.emobile.springtodo.core.repository.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(AppReplicaProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enable", havingValue = "true")
+    DataSource dataSource(DataSourceProperties dataSourceProperties, AppReplicaProperties appReplicaProperties) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        List<DataSource> replicas = appReplicaProperties.getNodes().stream()
+                .map(node -> (DataSource) DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .driverClassName(dataSourceProperties.getDriverClassName())
+                        .url(node.getUrl())
+                        .username(node.getUsername())
+                        .password(node.getPassword())
+                        .build())
+                .toList();
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+}
@@ -0,0 +1,28 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.api.idempotency.IdempotencyFilter;
+import com.emobile.springtodo.core.config.properties.AppIdempotencyProperties;
+import com.emobile.springtodo.core.service.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AppIdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.idempotency", name = "enable", havingValue = "true")
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                       ObjectMapper objectMapper,
+                                                                       AppIdempotencyProperties idempotencyProperties) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, objectMapper, idempotencyProperties.getMaxKeyLength())
+        );
+        registration.setUrlPatterns(idempotencyProperties.getUrlPatterns());
+        return registration;
+    }
+}
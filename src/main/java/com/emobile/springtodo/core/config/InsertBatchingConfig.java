@@ -0,0 +1,10 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.core.config.properties.AppInsertBatchingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AppInsertBatchingProperties.class)
+public class InsertBatchingConfig {
+}
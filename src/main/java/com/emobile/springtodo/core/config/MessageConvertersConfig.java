@@ -0,0 +1,48 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.api.output.task.TaskResponse;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.sql.Timestamp;
+
+@Configuration
+public class MessageConvertersConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .factory(new CBORFactory())
+                .mixIn(TaskResponse.class, BinaryTaskResponse.class)
+                .build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder
+                .factory(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build())
+                .mixIn(TaskResponse.class, BinaryTaskResponse.class)
+                .build());
+    }
+
+    private abstract static class BinaryTaskResponse {
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+        private Timestamp start;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+        private Timestamp deadline;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+        private Timestamp end;
+    }
+}
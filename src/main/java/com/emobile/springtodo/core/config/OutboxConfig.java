@@ -0,0 +1,33 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.core.config.properties.AppOutboxProperties;
+import com.emobile.springtodo.core.service.outbox.FileOutboxPublisher;
+import com.emobile.springtodo.core.service.outbox.LoggingOutboxPublisher;
+import com.emobile.springtodo.core.service.outbox.OutboxPublisher;
+import com.emobile.springtodo.core.service.outbox.WebhookOutboxPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(AppOutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxPublisher.class)
+    public OutboxPublisher outboxPublisher(AppOutboxProperties outboxProperties, ObjectMapper objectMapper) {
+        if (outboxProperties.getWebhookUrl() != null && !outboxProperties.getWebhookUrl().isBlank()) {
+            return new WebhookOutboxPublisher(URI.create(outboxProperties.getWebhookUrl()),
+                    outboxProperties.getWebhookTimeout(), objectMapper);
+        }
+        if (outboxProperties.getFile() != null && !outboxProperties.getFile().isBlank()) {
+            return new FileOutboxPublisher(Path.of(outboxProperties.getFile()), objectMapper);
+        }
+        return new LoggingOutboxPublisher();
+    }
+}
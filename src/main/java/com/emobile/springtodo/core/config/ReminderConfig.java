@@ -0,0 +1,26 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.core.config.properties.AppReminderProperties;
+import com.emobile.springtodo.core.service.reminder.FileReminderSink;
+import com.emobile.springtodo.core.service.reminder.LoggingReminderSink;
+import com.emobile.springtodo.core.service.reminder.ReminderSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(AppReminderProperties.class)
+public class ReminderConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ReminderSink.class)
+    public ReminderSink reminderSink(AppReminderProperties reminderProperties) {
+        if (reminderProperties.getFile() != null && !reminderProperties.getFile().isBlank()) {
+            return new FileReminderSink(Path.of(reminderProperties.getFile()));
+        }
+        return new LoggingReminderSink();
+    }
+}
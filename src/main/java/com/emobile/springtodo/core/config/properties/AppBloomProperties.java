@@ -0,0 +1,16 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.bloom")
+public class AppBloomProperties {
+
+    private boolean enable = false;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private Duration rebuildInterval = Duration.ofMinutes(5);
+}
@@ -26,6 +26,7 @@ public class AppCacheProperties {
         String TASK_BY_ID = "taskById";
         String TASKS_BY_USER = "tasksByUser";
         String TASK_COUNT = "taskCount";
+        String TASK_CACHE_GENERATION = "taskCacheGeneration";
         String USER_BY_ID = "userById";
     }
 
@@ -0,0 +1,25 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.idempotency")
+public class AppIdempotencyProperties {
+
+    private boolean enable = false;
+    private Duration ttl = Duration.ofHours(24);
+    private Duration pendingTtl = Duration.ofSeconds(30);
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private Duration pollInterval = Duration.ofMillis(20);
+    private int maxKeyLength = 255;
+    private List<String> urlPatterns = List.of(
+            "/api/v1/todo/task",
+            "/api/v1/todo/task/start/*",
+            "/api/v1/todo/task/end/*",
+            "/api/v1/todo/user"
+    );
+}
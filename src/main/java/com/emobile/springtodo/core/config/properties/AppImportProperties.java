@@ -0,0 +1,12 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.import")
+public class AppImportProperties {
+
+    private int chunkSize = 5000;
+    private String directory = "import";
+}
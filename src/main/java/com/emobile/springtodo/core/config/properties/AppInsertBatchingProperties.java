@@ -0,0 +1,15 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.insert-batching")
+public class AppInsertBatchingProperties {
+
+    private boolean enable = false;
+    private int batchSize = 64;
+    private Duration window = Duration.ofMillis(2);
+}
@@ -0,0 +1,18 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.outbox")
+public class AppOutboxProperties {
+
+    private boolean enable = false;
+    private Duration interval = Duration.ofMillis(200);
+    private int batchSize = 500;
+    private String webhookUrl;
+    private Duration webhookTimeout = Duration.ofSeconds(5);
+    private String file;
+}
@@ -0,0 +1,16 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.overdue")
+public class AppOverdueProperties {
+
+    private boolean enable = false;
+    private Duration interval = Duration.ofMinutes(10);
+    private int batchSize = 500;
+    private int rowsPerSecond = 2000;
+}
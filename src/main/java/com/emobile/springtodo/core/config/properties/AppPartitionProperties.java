@@ -0,0 +1,14 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.partition")
+public class AppPartitionProperties {
+
+    private boolean enable = false;
+    private String cron = "0 0 3 * * *";
+    private int precreateQuarters = 2;
+    private int retainQuarters = 4;
+}
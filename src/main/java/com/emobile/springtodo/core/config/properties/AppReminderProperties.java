@@ -0,0 +1,18 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.reminder")
+public class AppReminderProperties {
+
+    private boolean enable = false;
+    private Duration lead = Duration.ofMinutes(30);
+    private Duration tick = Duration.ofSeconds(1);
+    private int wheelSize = 512;
+    private Duration lookahead = Duration.ofDays(1);
+    private String file;
+}
@@ -0,0 +1,24 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class AppReplicaProperties {
+
+    private boolean enable = false;
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private List<Node> nodes = new ArrayList<>();
+
+    @Data
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,17 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.task-events")
+public class AppTaskEventsProperties {
+
+    private int maxSubscribers = 50_000;
+    private int bufferSize = 16;
+    private Duration writeTimeout = Duration.ofSeconds(10);
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration heartbeat = Duration.ofSeconds(30);
+}
@@ -0,0 +1,14 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.user-deletion")
+public class AppUserDeletionProperties {
+
+    private int chunkSize = 1000;
+    private Duration pause = Duration.ofMillis(200);
+}
@@ -0,0 +1,23 @@
+package com.emobile.springtodo.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.write-behind")
+public class AppWriteBehindProperties {
+
+    private boolean enable = false;
+    private int capacity = 10_000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(5);
+    private Durability durability = Durability.BUFFERED;
+    private boolean synchronousCommit = true;
+
+    public enum Durability {
+        BUFFERED,
+        FLUSHED
+    }
+}
@@ -0,0 +1,13 @@
+package com.emobile.springtodo.core.entity.db;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.sql.Timestamp;
+
+public record OutboxEvent(long id,
+                          OutboxEventType type,
+                          long taskId,
+                          long userId,
+                          @JsonRawValue String payload,
+                          Timestamp createdAt) {
+}
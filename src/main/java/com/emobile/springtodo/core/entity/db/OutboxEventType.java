@@ -0,0 +1,9 @@
+package com.emobile.springtodo.core.entity.db;
+
+public enum OutboxEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_STARTED,
+    TASK_ENDED,
+    TASK_DELETED
+}
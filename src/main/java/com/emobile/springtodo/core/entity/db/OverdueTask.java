@@ -0,0 +1,6 @@
+package com.emobile.springtodo.core.entity.db;
+
+import java.sql.Timestamp;
+
+public record OverdueTask(long id, long userId, Timestamp deadline) {
+}
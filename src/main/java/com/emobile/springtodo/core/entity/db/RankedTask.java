@@ -0,0 +1,4 @@
+package com.emobile.springtodo.core.entity.db;
+
+public record RankedTask(Task task, float rank) {
+}
@@ -19,4 +19,5 @@ public class Task {
     private Timestamp deadline;
     private Timestamp createdAt;
     private Timestamp endData;
+    private Long version;
 }
@@ -0,0 +1,38 @@
+package com.emobile.springtodo.core.entity.db;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record TaskPartition(LocalDate from) {
+
+    private static final Pattern NAME = Pattern.compile("tasks_(\\d{4})_q([1-4])");
+
+    public static TaskPartition containing(LocalDate date) {
+        return new TaskPartition(date.withDayOfMonth(1).withMonth((date.get(IsoFields.QUARTER_OF_YEAR) - 1) * 3 + 1));
+    }
+
+    public static Optional<TaskPartition> fromName(String name) {
+        Matcher matcher = NAME.matcher(name);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        int year = Integer.parseInt(matcher.group(1));
+        int quarter = Integer.parseInt(matcher.group(2));
+        return Optional.of(new TaskPartition(LocalDate.of(year, (quarter - 1) * 3 + 1, 1)));
+    }
+
+    public LocalDate to() {
+        return from.plusMonths(3);
+    }
+
+    public TaskPartition plusQuarters(long quarters) {
+        return new TaskPartition(from.plusMonths(quarters * 3));
+    }
+
+    public String name() {
+        return "tasks_" + from.getYear() + "_q" + from.get(IsoFields.QUARTER_OF_YEAR);
+    }
+}
@@ -9,4 +9,16 @@ public enum TaskStatus {
     public String getValue() {
         return this.name();
     }
+
+    public static TaskStatus fromValue(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return switch (value.charAt(0)) {
+            case 'T' -> TODO;
+            case 'I' -> IN_PROGRESS;
+            case 'D' -> DONE;
+            default -> valueOf(value);
+        };
+    }
 }
@@ -20,4 +20,5 @@ public class TaskDto implements Serializable {
     private Timestamp start;
     private Timestamp deadline;
     private Timestamp end;
+    private Long version;
 }
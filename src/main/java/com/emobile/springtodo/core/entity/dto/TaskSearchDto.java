@@ -0,0 +1,16 @@
+package com.emobile.springtodo.core.entity.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+public class TaskSearchDto {
+    private List<TaskDto> tasks;
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.emobile.springtodo.core.entity.dto;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+public class TaskStatsDto implements Serializable {
+    private Long userId;
+    private long total;
+    private long todo;
+    private long inProgress;
+    private long done;
+    private long overdue;
+}
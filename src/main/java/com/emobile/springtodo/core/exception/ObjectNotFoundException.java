@@ -6,4 +6,8 @@ public class ObjectNotFoundException extends ToDoAppException {
     public ObjectNotFoundException(String message, Timestamp timestamp) {
         super(message, timestamp);
     }
+
+    public ObjectNotFoundException(String message, Timestamp timestamp, boolean writableStackTrace) {
+        super(message, timestamp, writableStackTrace);
+    }
 }
@@ -16,4 +16,9 @@ public class ToDoAppException extends RuntimeException {
         super(message);
         this.timestamp = timestamp;
     }
+
+    public ToDoAppException(String message, Timestamp timestamp, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.timestamp = timestamp;
+    }
 }
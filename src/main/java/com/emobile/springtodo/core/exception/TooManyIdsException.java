@@ -0,0 +1,9 @@
+package com.emobile.springtodo.core.exception;
+
+import java.sql.Timestamp;
+
+public class TooManyIdsException extends ToDoAppException {
+    public TooManyIdsException(String message, Timestamp timestamp) {
+        super(message, timestamp);
+    }
+}
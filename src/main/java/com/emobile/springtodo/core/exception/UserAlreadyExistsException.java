@@ -3,7 +3,18 @@ package com.emobile.springtodo.core.exception;
 import java.sql.Timestamp;
 
 public class UserAlreadyExistsException extends ToDoAppException{
+    private final String column;
+
     public UserAlreadyExistsException(String message, Timestamp timestamp) {
+        this(message, timestamp, null);
+    }
+
+    public UserAlreadyExistsException(String message, Timestamp timestamp, String column) {
         super(message, timestamp);
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
     }
 }
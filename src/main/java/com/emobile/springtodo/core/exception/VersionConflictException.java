@@ -0,0 +1,9 @@
+package com.emobile.springtodo.core.exception;
+
+import java.sql.Timestamp;
+
+public class VersionConflictException extends ToDoAppException {
+    public VersionConflictException(String message, Timestamp timestamp) {
+        super(message, timestamp);
+    }
+}
@@ -1,6 +1,7 @@
 package com.emobile.springtodo.core.mapper;
 
 import com.emobile.springtodo.api.input.CreateTaskRequest;
+import com.emobile.springtodo.api.input.UpdateTaskRequest;
 import com.emobile.springtodo.core.entity.db.Task;
 import com.emobile.springtodo.core.entity.dto.TaskDto;
 import org.mapstruct.Mapper;
@@ -18,6 +19,8 @@ public interface TaskMapper {
 
     Task requestToTask(CreateTaskRequest request);
 
+    Task updateRequestToTask(UpdateTaskRequest request);
+
     default List<TaskDto> listTaskToListTaskDto(List<Task> tasks) {
         return tasks.stream()
                 .map(this::taskToDto)
@@ -0,0 +1,43 @@
+package com.emobile.springtodo.core.repository;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.Objects;
+
+final class CopyRows {
+
+    private CopyRows() {
+    }
+
+    static void appendRow(StringBuilder rows, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                rows.append(',');
+            }
+            if (values[i] != null) {
+                rows.append('"')
+                        .append(values[i].toString().replace("\"", "\"\""))
+                        .append('"');
+            }
+        }
+        rows.append('\n');
+    }
+
+    static long copyIn(JdbcTemplate jdbcTemplate, String sql, CharSequence rows) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(sql, new StringReader(rows.toString()));
+            } catch (IOException e) {
+                throw new SQLException("Failed to stream rows to COPY", e);
+            }
+        });
+        return Objects.requireNonNull(copied);
+    }
+}
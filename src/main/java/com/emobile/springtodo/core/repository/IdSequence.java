@@ -0,0 +1,16 @@
+package com.emobile.springtodo.core.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+final class IdSequence {
+
+    private IdSequence() {
+    }
+
+    static List<Long> next(JdbcTemplate jdbcTemplate, String table, int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)", Long.class, table, count);
+    }
+}
@@ -0,0 +1,112 @@
+package com.emobile.springtodo.core.repository;
+
+import com.emobile.springtodo.core.entity.db.OutboxEvent;
+import com.emobile.springtodo.core.entity.db.OutboxEventType;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxJDBCRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox (event_type, task_id, user_id, payload, created_at) VALUES (?, ?, ?, ?::jsonb, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void append(OutboxEventType type, Task task) {
+        jdbcTemplate.update(INSERT_SQL, type.name(), task.getId(), task.getUserId(),
+                toJson(TaskPayload.of(task)), new Timestamp(System.currentTimeMillis()));
+    }
+
+    public void append(OutboxEventType type, List<Task> tasks) {
+        append(tasks, task -> type);
+    }
+
+    public void append(List<Task> tasks, Function<Task, OutboxEventType> typeOf) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate(INSERT_SQL, tasks, tasks.size(), (stmt, task) -> {
+            stmt.setString(1, typeOf.apply(task).name());
+            stmt.setLong(2, task.getId());
+            stmt.setLong(3, task.getUserId());
+            stmt.setString(4, toJson(TaskPayload.of(task)));
+            stmt.setTimestamp(5, createdAt);
+        });
+    }
+
+    public void appendDeleted(Long userId, List<Long> taskIds) {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate(INSERT_SQL, taskIds, taskIds.size(), (stmt, taskId) -> {
+            stmt.setString(1, OutboxEventType.TASK_DELETED.name());
+            stmt.setLong(2, taskId);
+            stmt.setLong(3, userId);
+            stmt.setString(4, toJson(new TaskPayload(taskId, userId, null, null, null, null, null, null, null)));
+            stmt.setTimestamp(5, createdAt);
+        });
+    }
+
+    public List<OutboxEvent> lockBatch(int limit) {
+        String sql = "SELECT id, event_type, task_id, user_id, payload, created_at FROM outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+        return jdbcTemplate.query(
+                sql,
+                new ArgumentPreparedStatementSetter(new Object[]{limit}),
+                (rs, rowNum) -> new OutboxEvent(
+                        rs.getLong(1),
+                        OutboxEventType.valueOf(rs.getString(2)),
+                        rs.getLong(3),
+                        rs.getLong(4),
+                        rs.getString(5),
+                        rs.getTimestamp(6))
+        );
+    }
+
+    public int deleteByIds(Collection<Long> ids) {
+        String sql = "DELETE FROM outbox WHERE id = ANY(?)";
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement stmt = connection.prepareStatement(sql);
+            stmt.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return stmt;
+        });
+    }
+
+    private String toJson(TaskPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload of task " + payload.id(), e);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record TaskPayload(Long id,
+                               Long userId,
+                               String title,
+                               String description,
+                               TaskStatus status,
+                               Timestamp deadline,
+                               Timestamp createdAt,
+                               Timestamp endDate,
+                               Long version) {
+
+        static TaskPayload of(Task task) {
+            return new TaskPayload(task.getId(), task.getUserId(), task.getTitle(), task.getDescription(),
+                    task.getStatus(), task.getDeadline(), task.getCreatedAt(), task.getEndData(), task.getVersion());
+        }
+    }
+}
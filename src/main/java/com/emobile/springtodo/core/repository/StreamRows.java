@@ -0,0 +1,49 @@
+package com.emobile.springtodo.core.repository;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+final class StreamRows {
+
+    static final int FETCH_SIZE = 500;
+
+    private StreamRows() {
+    }
+
+    static void stream(JdbcTemplate jdbcTemplate, String sql, Object[] args, RowCallbackHandler handler) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setFetchSize(FETCH_SIZE);
+                new ArgumentPreparedStatementSetter(args).setValues(stmt);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        handler.processRow(rs);
+                    }
+                }
+                if (autoCommit) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (autoCommit) {
+                    connection.rollback();
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+            return null;
+        });
+    }
+}
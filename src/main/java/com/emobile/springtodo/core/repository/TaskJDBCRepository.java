@@ -1,61 +1,293 @@
 package com.emobile.springtodo.core.repository;
 
+import com.emobile.springtodo.core.entity.db.OutboxEventType;
+import com.emobile.springtodo.core.entity.db.OverdueTask;
+import com.emobile.springtodo.core.entity.db.RankedTask;
 import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
 import com.emobile.springtodo.core.entity.db.User;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilters;
 import com.emobile.springtodo.core.repository.mapper.TaskRowMapper;
+import com.emobile.springtodo.core.repository.routing.ReplicaReads;
+import com.emobile.springtodo.core.service.pagination.TaskFilter;
+import com.emobile.springtodo.core.service.pagination.TaskSearchCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 @Repository
 @RequiredArgsConstructor
 public class TaskJDBCRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ReplicaReads replicaReads;
+    private final IdBloomFilters idBloomFilters;
+    private final OutboxJDBCRepository outboxRepository;
 
     public Optional<Task> findById(Long id) {
-        String sql = "SELECT * FROM tasks WHERE id = ?";
-        Task task = DataAccessUtils.singleResult(
+        String sql = "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE id = ?";
+        return replicaReads.withPrimaryFallback(() -> Optional.ofNullable(DataAccessUtils.singleResult(
                 jdbcTemplate.query(
                         sql,
                         new ArgumentPreparedStatementSetter(new Object[]{id}),
                         new RowMapperResultSetExtractor<>(new TaskRowMapper(), 1)
                 )
+        )));
+    }
+
+    public List<Task> findByIds(Collection<Long> ids) {
+        String sql = "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE id = ANY(?)";
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement stmt = connection.prepareStatement(sql);
+                    stmt.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                    return stmt;
+                },
+                new TaskRowMapper()
         );
-        return Optional.ofNullable(task);
     }
 
     public List<Task> findByUser(Long userId, int limit, int offset) {
-        String sql = "SELECT * FROM tasks WHERE user_id = ? ORDER BY id LIMIT ? OFFSET ?";
-        return jdbcTemplate.query(
+        String sql = "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE user_id = ? ORDER BY id LIMIT ? OFFSET ?";
+        return replicaReads.forUser(userId, () -> jdbcTemplate.query(
                 sql,
                 new ArgumentPreparedStatementSetter(new Object[]{userId, limit, offset}),
                 new TaskRowMapper()
-        );
+        ));
+    }
+
+    public List<Task> findByUser(Long userId, TaskFilter filter, int limit, int offset) {
+        String sql = TaskListingQueries.select(filter);
+        List<Object> args = TaskListingQueries.args(userId, filter);
+        args.add(limit);
+        args.add(offset);
+        return replicaReads.forUser(userId, () -> jdbcTemplate.query(
+                sql,
+                new ArgumentPreparedStatementSetter(args.toArray()),
+                new TaskRowMapper()
+        ));
+    }
+
+    public Long countByUser(Long userId, TaskFilter filter) {
+        if (filter.deadlineFrom() != null || filter.deadlineTo() != null) {
+            String sql = TaskListingQueries.count(filter);
+            return replicaReads.forUser(userId, () -> jdbcTemplate.queryForObject(
+                    sql, Long.class, TaskListingQueries.args(userId, filter).toArray()));
+        }
+        if (filter.status() == null) {
+            return getTaskCountByUser(userId);
+        }
+        String sql = "SELECT COALESCE(SUM(task_count), 0) FROM user_task_counters WHERE user_id = ? AND status = ?";
+        return replicaReads.forUser(userId, () -> jdbcTemplate.queryForObject(
+                sql, Long.class, userId, filter.status().name()));
+    }
+
+    public List<Task> findByUserAfter(Long userId, Long afterId, int limit) {
+        String sql = "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE user_id = ? AND id > ? ORDER BY id LIMIT ?";
+        return replicaReads.forUser(userId, () -> jdbcTemplate.query(
+                sql,
+                new ArgumentPreparedStatementSetter(new Object[]{userId, afterId, limit}),
+                new TaskRowMapper()
+        ));
+    }
+
+    public List<RankedTask> search(Long userId, String query, TaskSearchCursor after, int limit) {
+        String ranked = "SELECT " + TaskRowMapper.COLUMNS + ", ts_rank(search_vector, query) AS rank "
+                + "FROM tasks, websearch_to_tsquery('simple', ?) query "
+                + "WHERE user_id = ? AND search_vector @@ query";
+        String sql;
+        Object[] args;
+        if (after == null) {
+            sql = "SELECT * FROM (" + ranked + ") ranked ORDER BY rank DESC, id DESC LIMIT ?";
+            args = new Object[]{query, userId, limit};
+        } else {
+            sql = "SELECT * FROM (" + ranked + ") ranked WHERE (rank, id) < (CAST(? AS real), ?) "
+                    + "ORDER BY rank DESC, id DESC LIMIT ?";
+            args = new Object[]{query, userId, after.rank(), after.id(), limit};
+        }
+        TaskRowMapper rowMapper = new TaskRowMapper();
+        return replicaReads.forUser(userId, () -> jdbcTemplate.query(
+                sql,
+                new ArgumentPreparedStatementSetter(args),
+                (rs, rowNum) -> new RankedTask(rowMapper.mapRow(rs, rowNum), rs.getFloat("rank"))
+        ));
+    }
+
+    public void streamByUser(Long userId, Consumer<Task> consumer) {
+        String sql = "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE user_id = ? ORDER BY id";
+        TaskRowMapper rowMapper = new TaskRowMapper();
+        StreamRows.stream(jdbcTemplate, sql, new Object[]{userId},
+                rs -> consumer.accept(rowMapper.mapRow(rs, rs.getRow())));
+    }
+
+    public void streamOpenByDeadline(Timestamp from, Timestamp until, Consumer<Task> consumer) {
+        String sql = "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks "
+                + "WHERE status <> 'DONE' AND overdue = false AND deadline > ? AND deadline <= ? ORDER BY deadline, id";
+        TaskRowMapper rowMapper = new TaskRowMapper();
+        StreamRows.stream(jdbcTemplate, sql, new Object[]{from, until},
+                rs -> consumer.accept(rowMapper.mapRow(rs, rs.getRow())));
+    }
+
+    public void streamIds(LongConsumer consumer) {
+        StreamRows.stream(jdbcTemplate, "SELECT id FROM tasks", new Object[0],
+                rs -> consumer.accept(rs.getLong(1)));
     }
 
     public Long getTaskCountByUser(Long userId) {
-        String sql = "SELECT COUNT(*) FROM tasks WHERE user_id = ?";
-        return DataAccessUtils.singleResult(
+        String sql = "SELECT COALESCE(SUM(task_count), 0) FROM user_task_counters WHERE user_id = ?";
+        return replicaReads.forUser(userId, () -> DataAccessUtils.singleResult(
                 jdbcTemplate.query(
                         sql,
                         new ArgumentPreparedStatementSetter(new Object[]{userId}),
                         new RowMapperResultSetExtractor<>(
                                 (rs, rowNum) -> rs.getLong(1), 1)
                 )
+        ));
+    }
+
+    public Optional<Long> findOwnerId(Long id) {
+        String sql = "SELECT user_id FROM tasks WHERE id = ?";
+        return Optional.ofNullable(DataAccessUtils.singleResult(
+                jdbcTemplate.query(
+                        sql,
+                        new ArgumentPreparedStatementSetter(new Object[]{id}),
+                        new RowMapperResultSetExtractor<>(
+                                (rs, rowNum) -> rs.getLong(1), 1)
+                )
+        ));
+    }
+
+    @Transactional
+    public Optional<Task> startTask(Long id, Long userId) {
+        String sql = "UPDATE tasks SET status = ?::task_status, version = version + 1 WHERE id = ? AND user_id = ? RETURNING " + TaskRowMapper.COLUMNS;
+        Task task = DataAccessUtils.singleResult(
+                jdbcTemplate.query(
+                        sql,
+                        new ArgumentPreparedStatementSetter(new Object[]{TaskStatus.IN_PROGRESS.name(), id, userId}),
+                        new RowMapperResultSetExtractor<>(new TaskRowMapper(), 1)
+                )
+        );
+        if (task != null) {
+            outboxRepository.append(OutboxEventType.TASK_STARTED, task);
+        }
+        replicaReads.markWrite(userId);
+        return Optional.ofNullable(task);
+    }
+
+    @Transactional
+    public Optional<Task> endTask(Long id, Long userId, Timestamp endDate) {
+        String sql = "UPDATE tasks SET status = ?::task_status, end_date = ?, version = version + 1 WHERE id = ? AND user_id = ? RETURNING " + TaskRowMapper.COLUMNS;
+        Task task = DataAccessUtils.singleResult(
+                jdbcTemplate.query(
+                        sql,
+                        new ArgumentPreparedStatementSetter(new Object[]{TaskStatus.DONE.name(), endDate, id, userId}),
+                        new RowMapperResultSetExtractor<>(new TaskRowMapper(), 1)
+                )
         );
+        if (task != null) {
+            outboxRepository.append(OutboxEventType.TASK_ENDED, task);
+        }
+        replicaReads.markWrite(userId);
+        return Optional.ofNullable(task);
+    }
+
+    @Transactional
+    public List<Task> applyTransitions(List<Task> tasks, boolean synchronousCommit) {
+        if (!synchronousCommit) {
+            jdbcTemplate.execute("SET LOCAL synchronous_commit TO OFF");
+        }
+        String sql = "UPDATE tasks SET status = ?::task_status, end_date = COALESCE(?, end_date), version = version + 1 WHERE id = ? AND user_id = ? AND created_at = ?";
+        int[][] counts = jdbcTemplate.batchUpdate(sql, tasks, tasks.size(), (stmt, task) -> {
+            stmt.setString(1, task.getStatus().name());
+            stmt.setTimestamp(2, task.getEndData());
+            stmt.setLong(3, task.getId());
+            stmt.setLong(4, task.getUserId());
+            stmt.setTimestamp(5, task.getCreatedAt());
+        });
+        List<Task> applied = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            if (counts[0][i] != 0) {
+                applied.add(tasks.get(i));
+                replicaReads.markWrite(tasks.get(i).getUserId());
+            }
+        }
+        outboxRepository.append(applied, task -> task.getStatus() == TaskStatus.DONE
+                ? OutboxEventType.TASK_ENDED
+                : OutboxEventType.TASK_STARTED);
+        return applied;
+    }
+
+    public List<OverdueTask> flagOverdueBatch(Timestamp now, OverdueTask after, int limit) {
+        String pending = "SELECT id, created_at FROM tasks WHERE status <> 'DONE' AND overdue = false AND deadline < ?";
+        Object[] args;
+        if (after == null) {
+            pending += " ORDER BY deadline, id LIMIT ? FOR UPDATE SKIP LOCKED";
+            args = new Object[]{now, limit};
+        } else {
+            pending += " AND (deadline, id) > (?, ?) ORDER BY deadline, id LIMIT ? FOR UPDATE SKIP LOCKED";
+            args = new Object[]{now, after.deadline(), after.id(), limit};
+        }
+        String sql = "UPDATE tasks t SET overdue = true FROM (" + pending + ") batch "
+                + "WHERE t.id = batch.id AND t.created_at = batch.created_at RETURNING t.id, t.user_id, t.deadline";
+        return jdbcTemplate.query(
+                sql,
+                new ArgumentPreparedStatementSetter(args),
+                (rs, rowNum) -> new OverdueTask(rs.getLong(1), rs.getLong(2), rs.getTimestamp(3))
+        );
+    }
+
+    public long countOverdueByUser(Long userId) {
+        String sql = "SELECT COUNT(*) FROM tasks WHERE user_id = ? AND overdue = true AND status <> 'DONE'";
+        return replicaReads.forUser(userId, () -> jdbcTemplate.queryForObject(sql, Long.class, userId));
+    }
+
+    public Map<Long, Long> countOverdueByUsers(Collection<Long> userIds) {
+        String sql = "SELECT user_id, COUNT(*) FROM tasks WHERE user_id = ANY(?) AND overdue = true AND status <> 'DONE' GROUP BY user_id";
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement stmt = connection.prepareStatement(sql);
+                    stmt.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+                    return stmt;
+                },
+                rs -> {
+                    counts.put(rs.getLong(1), rs.getLong(2));
+                }
+        );
+        return counts;
+    }
+
+    public Map<TaskStatus, Long> getTaskCountsByStatus(Long userId) {
+        String sql = "SELECT status, task_count FROM user_task_counters WHERE user_id = ?";
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jdbcTemplate.query(
+                sql,
+                new ArgumentPreparedStatementSetter(new Object[]{userId}),
+                (RowCallbackHandler) rs -> counts.put(TaskStatus.fromValue(rs.getString(1)), rs.getLong(2))
+        );
+        return counts;
     }
 
+    @Transactional
     public Task save(Task task) {
         if (task.getId() == null) {
             task.setCreatedAt(new Timestamp(new Date().getTime()));
@@ -73,19 +305,180 @@ public class TaskJDBCRepository {
                 return stmt;
             }, keyHolder);
             task.setId(Objects.requireNonNull(keyHolder.getKey()).longValue());
+            task.setVersion(0L);
+            idBloomFilters.tasks().add(task.getId());
+            outboxRepository.append(OutboxEventType.TASK_CREATED, task);
         } else {
-            String sql = "UPDATE tasks SET title = ?, description = ?, status = ?::task_status, deadline = ?, created_at = ?, end_date = ? WHERE id = ?";
-            jdbcTemplate.update(
-                    sql,
+            String sql = "UPDATE tasks SET title = ?, description = ?, status = ?::task_status, deadline = ?, end_date = ?, version = version + 1 WHERE id = ? AND created_at = ? RETURNING version";
+            Long version = DataAccessUtils.singleResult(
+                    jdbcTemplate.query(
+                            sql,
+                            new ArgumentPreparedStatementSetter(new Object[]{
+                                    task.getTitle(),
+                                    task.getDescription(),
+                                    task.getStatus().name(),
+                                    task.getDeadline(),
+                                    task.getEndData(),
+                                    task.getId(),
+                                    task.getCreatedAt()
+                            }),
+                            new RowMapperResultSetExtractor<>(
+                                    (rs, rowNum) -> rs.getLong(1), 1)
+                    )
+            );
+            task.setVersion(version);
+            if (version != null) {
+                outboxRepository.append(OutboxEventType.TASK_UPDATED, task);
+            }
+        }
+        replicaReads.markWrite(task.getUserId());
+        return task;
+    }
+
+    @Transactional
+    public List<Task> insertAll(List<Task> tasks) {
+        Timestamp createdAt = new Timestamp(new Date().getTime());
+        List<Long> ids = IdSequence.next(jdbcTemplate, "tasks", tasks.size());
+        StringBuilder sql = new StringBuilder("INSERT INTO tasks (id, user_id, title, description, status, deadline, created_at, end_date) VALUES ");
+        List<Object> args = new ArrayList<>(tasks.size() * 8);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId(ids.get(i));
+            task.setCreatedAt(createdAt);
+            task.setVersion(0L);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?::task_status, ?, ?, ?)");
+            args.add(task.getId());
+            args.add(task.getUserId());
+            args.add(task.getTitle());
+            args.add(task.getDescription());
+            args.add(task.getStatus().name());
+            args.add(task.getDeadline());
+            args.add(task.getCreatedAt());
+            args.add(task.getEndData());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+        for (Task task : tasks) {
+            idBloomFilters.tasks().add(task.getId());
+            replicaReads.markWrite(task.getUserId());
+        }
+        outboxRepository.append(OutboxEventType.TASK_CREATED, tasks);
+        return tasks;
+    }
+
+    @Transactional
+    public Optional<Task> update(Long id, Long userId, Long version, Task changes) {
+        StringBuilder sql = new StringBuilder("UPDATE tasks SET ");
+        List<Object> args = new ArrayList<>(6);
+        if (changes.getTitle() != null) {
+            sql.append("title = ?, ");
+            args.add(changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            sql.append("description = ?, ");
+            args.add(changes.getDescription());
+        }
+        if (changes.getDeadline() != null) {
+            sql.append("deadline = ?, overdue = false, ");
+            args.add(changes.getDeadline());
+        }
+        sql.append("version = version + 1 WHERE id = ? AND user_id = ? AND version = ? RETURNING ")
+                .append(TaskRowMapper.COLUMNS);
+        args.add(id);
+        args.add(userId);
+        args.add(version);
+        Task task = DataAccessUtils.singleResult(
+                jdbcTemplate.query(
+                        sql.toString(),
+                        new ArgumentPreparedStatementSetter(args.toArray()),
+                        new RowMapperResultSetExtractor<>(new TaskRowMapper(), 1)
+                )
+        );
+        if (task != null) {
+            outboxRepository.append(OutboxEventType.TASK_UPDATED, task);
+        }
+        replicaReads.markWrite(userId);
+        return Optional.ofNullable(task);
+    }
+
+    @Transactional
+    public List<Long> deleteChunkByUser(Long userId, int limit) {
+        String sql = "DELETE FROM tasks WHERE user_id = ? AND (id, created_at) IN "
+                + "(SELECT id, created_at FROM tasks WHERE user_id = ? LIMIT ?) RETURNING id";
+        List<Long> ids = jdbcTemplate.query(
+                sql,
+                new ArgumentPreparedStatementSetter(new Object[]{userId, userId, limit}),
+                (rs, rowNum) -> rs.getLong(1)
+        );
+        if (!ids.isEmpty()) {
+            outboxRepository.appendDeleted(userId, ids);
+        }
+        replicaReads.markWrite(userId);
+        return ids;
+    }
+
+    @Transactional
+    public long copyIn(List<Task> tasks) {
+        String sql = "COPY tasks (id, user_id, title, description, status, deadline, created_at) FROM STDIN WITH (FORMAT csv)";
+        List<Long> ids = IdSequence.next(jdbcTemplate, "tasks", tasks.size());
+        StringBuilder rows = new StringBuilder(tasks.size() * 128);
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId(ids.get(i));
+            task.setVersion(0L);
+            userIds.add(task.getUserId());
+            CopyRows.appendRow(rows,
+                    task.getId(),
+                    task.getUserId(),
                     task.getTitle(),
                     task.getDescription(),
                     task.getStatus().name(),
                     task.getDeadline(),
-                    task.getCreatedAt(),
-                    task.getEndData(),
-                    task.getId()
-            );
+                    task.getCreatedAt());
         }
-        return task;
+        long copied = CopyRows.copyIn(jdbcTemplate, sql, rows);
+        ids.forEach(idBloomFilters.tasks()::add);
+        userIds.forEach(replicaReads::markWrite);
+        outboxRepository.append(OutboxEventType.TASK_CREATED, tasks);
+        return copied;
+    }
+
+    @Transactional
+    public List<Task> saveAll(List<Task> tasks) {
+        Timestamp createdAt = new Timestamp(new Date().getTime());
+        String sql = "INSERT INTO tasks (user_id, title, description, status, deadline, created_at, end_date) VALUES (?, ?, ?, ?::task_status, ?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement stmt, int i) throws SQLException {
+                        Task task = tasks.get(i);
+                        task.setCreatedAt(createdAt);
+                        stmt.setLong(1, task.getUserId());
+                        stmt.setString(2, task.getTitle());
+                        stmt.setString(3, task.getDescription());
+                        stmt.setString(4, task.getStatus().name());
+                        stmt.setTimestamp(5, task.getDeadline());
+                        stmt.setTimestamp(6, task.getCreatedAt());
+                        stmt.setTimestamp(7, task.getEndData());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                },
+                keyHolder
+        );
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+            tasks.get(i).setVersion(0L);
+            idBloomFilters.tasks().add(tasks.get(i).getId());
+            replicaReads.markWrite(tasks.get(i).getUserId());
+        }
+        outboxRepository.append(OutboxEventType.TASK_CREATED, tasks);
+        return tasks;
     }
 }
@@ -0,0 +1,97 @@
+package com.emobile.springtodo.core.repository;
+
+import com.emobile.springtodo.core.repository.mapper.TaskRowMapper;
+import com.emobile.springtodo.core.service.pagination.TaskFilter;
+import com.emobile.springtodo.core.service.pagination.TaskSort;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class TaskListingQueries {
+
+    private enum DeadlineBound {
+        NONE, FROM, TO, BETWEEN
+    }
+
+    private record Shape(boolean status, DeadlineBound deadline, TaskSort sort, Sort.Direction direction) {
+    }
+
+    private static final Map<Shape, String> SELECTS = new HashMap<>();
+    private static final Map<Shape, String> COUNTS = new HashMap<>();
+
+    static {
+        for (boolean status : new boolean[]{false, true}) {
+            for (DeadlineBound deadline : DeadlineBound.values()) {
+                String where = where(status, deadline);
+                COUNTS.put(new Shape(status, deadline, null, null), "SELECT COUNT(*) FROM tasks WHERE " + where);
+                for (TaskSort sort : TaskSort.values()) {
+                    for (Sort.Direction direction : Sort.Direction.values()) {
+                        SELECTS.put(new Shape(status, deadline, sort, direction),
+                                "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE " + where
+                                        + " ORDER BY " + orderBy(sort, direction) + " LIMIT ? OFFSET ?");
+                    }
+                }
+            }
+        }
+    }
+
+    private TaskListingQueries() {
+    }
+
+    static String select(TaskFilter filter) {
+        return SELECTS.get(new Shape(filter.status() != null, deadlineBound(filter), filter.sort(), filter.direction()));
+    }
+
+    static String count(TaskFilter filter) {
+        return COUNTS.get(new Shape(filter.status() != null, deadlineBound(filter), null, null));
+    }
+
+    static List<Object> args(Long userId, TaskFilter filter) {
+        List<Object> args = new ArrayList<>(5);
+        args.add(userId);
+        if (filter.status() != null) {
+            args.add(filter.status().name());
+        }
+        if (filter.deadlineFrom() != null) {
+            args.add(filter.deadlineFrom());
+        }
+        if (filter.deadlineTo() != null) {
+            args.add(filter.deadlineTo());
+        }
+        return args;
+    }
+
+    private static DeadlineBound deadlineBound(TaskFilter filter) {
+        if (filter.deadlineFrom() != null && filter.deadlineTo() != null) {
+            return DeadlineBound.BETWEEN;
+        }
+        if (filter.deadlineFrom() != null) {
+            return DeadlineBound.FROM;
+        }
+        return filter.deadlineTo() != null ? DeadlineBound.TO : DeadlineBound.NONE;
+    }
+
+    private static String where(boolean status, DeadlineBound deadline) {
+        StringBuilder where = new StringBuilder("user_id = ?");
+        if (status) {
+            where.append(" AND status = ?::task_status");
+        }
+        if (deadline == DeadlineBound.FROM || deadline == DeadlineBound.BETWEEN) {
+            where.append(" AND deadline >= ?");
+        }
+        if (deadline == DeadlineBound.TO || deadline == DeadlineBound.BETWEEN) {
+            where.append(" AND deadline < ?");
+        }
+        return where.toString();
+    }
+
+    private static String orderBy(TaskSort sort, Sort.Direction direction) {
+        if (sort == TaskSort.ID) {
+            return "id " + direction;
+        }
+        return sort.getColumn() + " " + direction + ", id " + direction;
+    }
+}
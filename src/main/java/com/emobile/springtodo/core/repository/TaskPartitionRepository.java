@@ -0,0 +1,62 @@
+package com.emobile.springtodo.core.repository;
+
+import com.emobile.springtodo.core.entity.db.TaskPartition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<TaskPartition> findPartitions() {
+        String sql = "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'tasks'::regclass";
+        return jdbcTemplate.queryForList(sql, String.class).stream()
+                .map(TaskPartition::fromName)
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(TaskPartition::from))
+                .toList();
+    }
+
+    public List<TaskPartition> findDetached() {
+        String sql = "SELECT c.relname FROM pg_class c WHERE c.relkind = 'r' AND NOT c.relispartition"
+                + " AND c.relnamespace = current_schema()::regnamespace AND c.relname LIKE 'tasks\\_%'";
+        return jdbcTemplate.queryForList(sql, String.class).stream()
+                .map(TaskPartition::fromName)
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(TaskPartition::from))
+                .toList();
+    }
+
+    public List<Long> deleteArchivedByUser(TaskPartition partition, Long userId) {
+        return jdbcTemplate.queryForList("DELETE FROM " + partition.name() + " WHERE user_id = ? RETURNING id", Long.class, userId);
+    }
+
+    public void create(TaskPartition partition) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition.name()
+                + " PARTITION OF tasks FOR VALUES FROM ('" + partition.from() + "') TO ('" + partition.to() + "')");
+    }
+
+    @Transactional
+    public boolean detachCompleted(TaskPartition partition) {
+        String name = partition.name();
+        jdbcTemplate.execute("LOCK TABLE " + name + " IN EXCLUSIVE MODE");
+        Boolean hasOpenTasks = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + name + " WHERE status <> 'DONE')", Boolean.class);
+        if (Boolean.TRUE.equals(hasOpenTasks)) {
+            return false;
+        }
+        jdbcTemplate.update("UPDATE user_task_counters c SET task_count = c.task_count - d.task_count"
+                + " FROM (SELECT user_id, status::text AS status, COUNT(*) AS task_count FROM " + name + " GROUP BY user_id, status) d"
+                + " WHERE c.user_id = d.user_id AND c.status = d.status");
+        jdbcTemplate.execute("ALTER TABLE tasks DETACH PARTITION " + name);
+        return true;
+    }
+}
@@ -1,81 +1,165 @@
 package com.emobile.springtodo.core.repository;
 
 import com.emobile.springtodo.core.entity.db.User;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilters;
 import com.emobile.springtodo.core.repository.mapper.UserRowMapper;
+import com.emobile.springtodo.core.repository.routing.ReplicaReads;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
-import java.util.Date;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.LongConsumer;
 
 @Repository
 @RequiredArgsConstructor
 public class UserJDBCRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ReplicaReads replicaReads;
+    private final IdBloomFilters idBloomFilters;
 
     public Optional<User> findById(Long id) {
-        String sql = "SELECT * FROM users WHERE id = ?";
-        User user = DataAccessUtils.singleResult(
+        String sql = "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE id = ? AND deleted_at IS NULL";
+        return replicaReads.withPrimaryFallback(id, () -> Optional.ofNullable(DataAccessUtils.singleResult(
                 jdbcTemplate.query(
                         sql,
                         new ArgumentPreparedStatementSetter(new Object[]{id}),
                         new RowMapperResultSetExtractor<>(new UserRowMapper())
                 )
-        );
-        return Optional.ofNullable(user);
+        )));
     }
 
     public Optional<User> findByUsername(String username) {
-        String sql = "SELECT * FROM users WHERE username = ?";
-        User user = DataAccessUtils.singleResult(
+        String sql = "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE username = ? AND deleted_at IS NULL";
+        return replicaReads.withPrimaryFallback(() -> Optional.ofNullable(DataAccessUtils.singleResult(
                 jdbcTemplate.query(
                         sql,
                         new ArgumentPreparedStatementSetter(new Object[]{username}),
                         new RowMapperResultSetExtractor<>(new UserRowMapper())
                 )
-        );
-        return Optional.ofNullable(user);
+        )));
     }
 
     public Optional<User> findByEmail(String email) {
-        String sql = "SELECT * FROM users WHERE email = ?";
-        User user = DataAccessUtils.singleResult(
+        String sql = "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE email = ? AND deleted_at IS NULL";
+        return replicaReads.withPrimaryFallback(() -> Optional.ofNullable(DataAccessUtils.singleResult(
                 jdbcTemplate.query(
                         sql,
                         new ArgumentPreparedStatementSetter(new Object[]{email}),
                         new RowMapperResultSetExtractor<>(new UserRowMapper())
                 )
-        );
-        return Optional.ofNullable(user);
+        )));
     }
 
-    public User save(User user) {
+    public Optional<User> saveIfAbsent(User user) {
         user.setCreatedAt(new Timestamp(new Date().getTime()));
-        String sql = "INSERT INTO users (username, email, created_at) VALUES (?, ?, ?)";
-        KeyHolder keyHolder = new GeneratedKeyHolder();
-        jdbcTemplate.update(connection -> {
-                    PreparedStatement stmt = connection.prepareStatement(sql, new String[]{"id"});
-                    stmt.setString(1, user.getUsername());
-                    stmt.setString(2, user.getEmail());
-                    stmt.setTimestamp(3, user.getCreatedAt());
+        String sql = "INSERT INTO users (username, email, created_at) VALUES (?, ?, ?) ON CONFLICT DO NOTHING RETURNING id";
+        Long id = DataAccessUtils.singleResult(
+                jdbcTemplate.query(
+                        sql,
+                        new ArgumentPreparedStatementSetter(new Object[]{user.getUsername(), user.getEmail(), user.getCreatedAt()}),
+                        new RowMapperResultSetExtractor<>(
+                                (rs, rowNum) -> rs.getLong(1), 1)
+                )
+        );
+        if (id == null) {
+            return Optional.empty();
+        }
+        user.setId(id);
+        idBloomFilters.users().add(id);
+        return Optional.of(user);
+    }
+
+    public Optional<String> findConflictingColumn(String username, String email) {
+        String sql = "SELECT CASE WHEN username = ? THEN 'username' ELSE 'email' END FROM users WHERE username = ? OR email = ? ORDER BY username = ? DESC LIMIT 1";
+        return Optional.ofNullable(DataAccessUtils.singleResult(
+                jdbcTemplate.query(
+                        sql,
+                        new ArgumentPreparedStatementSetter(new Object[]{username, username, email, username}),
+                        new RowMapperResultSetExtractor<>(
+                                (rs, rowNum) -> rs.getString(1), 1)
+                )
+        ));
+    }
+
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        String sql = "SELECT id FROM users WHERE id = ANY(?) AND deleted_at IS NULL";
+        List<Long> existing = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement stmt = connection.prepareStatement(sql);
+                    stmt.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
                     return stmt;
-                }, keyHolder);
-        user.setId(Objects.requireNonNull(keyHolder.getKey()).longValue());
-        return user;
+                },
+                (rs, rowNum) -> rs.getLong(1)
+        );
+        return new HashSet<>(existing);
+    }
+
+    public List<User> findByUsernamesOrEmails(Collection<String> usernames, Collection<String> emails) {
+        String sql = "SELECT username, email FROM users WHERE username = ANY(?) OR email = ANY(?)";
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement stmt = connection.prepareStatement(sql);
+                    stmt.setArray(1, connection.createArrayOf("varchar", usernames.toArray()));
+                    stmt.setArray(2, connection.createArrayOf("varchar", emails.toArray()));
+                    return stmt;
+                },
+                (rs, rowNum) -> User.builder()
+                        .username(rs.getString(1))
+                        .email(rs.getString(2))
+                        .build()
+        );
+    }
+
+    public long copyIn(List<User> users) {
+        String sql = "COPY users (id, username, email, created_at) FROM STDIN WITH (FORMAT csv)";
+        List<Long> ids = IdSequence.next(jdbcTemplate, "users", users.size());
+        StringBuilder rows = new StringBuilder(users.size() * 64);
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            user.setId(ids.get(i));
+            CopyRows.appendRow(rows, user.getId(), user.getUsername(), user.getEmail(), user.getCreatedAt());
+        }
+        long copied = CopyRows.copyIn(jdbcTemplate, sql, rows);
+        ids.forEach(idBloomFilters.users()::add);
+        return copied;
+    }
+
+    public void streamIds(LongConsumer consumer) {
+        StreamRows.stream(jdbcTemplate, "SELECT id FROM users", new Object[0],
+                rs -> consumer.accept(rs.getLong(1)));
+    }
+
+    public boolean tombstone(Long id) {
+        String sql = "UPDATE users SET deleted_at = ? WHERE id = ? AND deleted_at IS NULL";
+        boolean tombstoned = jdbcTemplate.update(sql, new Timestamp(new Date().getTime()), id) > 0;
+        replicaReads.markWrite(id);
+        return tombstoned;
+    }
+
+    public List<Long> findTombstonedIds() {
+        String sql = "SELECT id FROM users WHERE deleted_at IS NOT NULL ORDER BY deleted_at";
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    @Transactional
+    public boolean deleteTombstoned(Long id) {
+        jdbcTemplate.update("DELETE FROM user_task_counters WHERE user_id = ?", id);
+        boolean deleted = jdbcTemplate.update("DELETE FROM users WHERE id = ? AND deleted_at IS NOT NULL", id) > 0;
+        replicaReads.markWrite(id);
+        return deleted;
     }
 
     public void deleteById(Long id) {
         String sql = "DELETE FROM users WHERE id = ?";
         jdbcTemplate.update(sql, id);
+        replicaReads.markWrite(id);
     }
 }
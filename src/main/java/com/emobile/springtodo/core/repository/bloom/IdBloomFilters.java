@@ -0,0 +1,18 @@
+package com.emobile.springtodo.core.repository.bloom;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class IdBloomFilters {
+
+    private final IdBloomGuard tasks = new IdBloomGuard();
+    private final IdBloomGuard users = new IdBloomGuard();
+
+    public IdBloomGuard tasks() {
+        return tasks;
+    }
+
+    public IdBloomGuard users() {
+        return users;
+    }
+}
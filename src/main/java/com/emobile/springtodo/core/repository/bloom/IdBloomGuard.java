@@ -0,0 +1,67 @@
+package com.emobile.springtodo.core.repository.bloom;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+public class IdBloomGuard {
+
+    private volatile IdBloomFilter active;
+    private volatile IdBloomFilter previous;
+    private volatile IdBloomFilter building;
+
+    public boolean mightContain(long id) {
+        IdBloomFilter current = active;
+        if (current == null || current.mightContain(id)) {
+            return true;
+        }
+        IdBloomFilter older = previous;
+        return older != null && older.mightContain(id);
+    }
+
+    public void add(long id) {
+        IdBloomFilter next = building;
+        if (next != null) {
+            next.put(id);
+        }
+        IdBloomFilter current = active;
+        if (current != null) {
+            current.put(id);
+        }
+    }
+
+    public synchronized void rebuild(IdBloomFilter fresh, Consumer<LongConsumer> loader) {
+        building = fresh;
+        try {
+            loader.accept(fresh::put);
+            previous = active;
+            active = fresh;
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean isReady() {
+        return active != null;
+    }
+
+    public long getInsertions() {
+        IdBloomFilter current = active;
+        return current == null ? 0 : current.getInsertions();
+    }
+
+    public double getFalsePositiveRate() {
+        IdBloomFilter current = active;
+        if (current == null) {
+            return 1.0;
+        }
+        IdBloomFilter older = previous;
+        double olderRate = older == null ? 0.0 : older.getFalsePositiveRate();
+        return 1 - (1 - current.getFalsePositiveRate()) * (1 - olderRate);
+    }
+
+    public long getMemoryBytes() {
+        IdBloomFilter current = active;
+        IdBloomFilter older = previous;
+        return (current == null ? 0 : current.getMemoryBytes()) + (older == null ? 0 : older.getMemoryBytes());
+    }
+}
@@ -8,19 +8,21 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class TaskRowMapper implements RowMapper<Task> {
+
+    public static final String COLUMNS = "id, user_id, title, description, status, deadline, created_at, end_date, version";
+
     @Override
     public Task mapRow(ResultSet rs, int rowNum) throws SQLException {
         Task task = new Task();
-        task.setId(rs.getLong("id"));
-        task.setUserId(rs.getLong("user_id"));
-        task.setTitle(rs.getString("title"));
-        task.setDescription(rs.getString("description"));
-        task.setStatus(TaskStatus.valueOf(
-                rs.getString("status"))
-        );
-        task.setDeadline(rs.getTimestamp("deadline"));
-        task.setCreatedAt(rs.getTimestamp("created_at"));
-        task.setEndData(rs.getTimestamp("end_date"));
+        task.setId(rs.getLong(1));
+        task.setUserId(rs.getLong(2));
+        task.setTitle(rs.getString(3));
+        task.setDescription(rs.getString(4));
+        task.setStatus(TaskStatus.fromValue(rs.getString(5)));
+        task.setDeadline(rs.getTimestamp(6));
+        task.setCreatedAt(rs.getTimestamp(7));
+        task.setEndData(rs.getTimestamp(8));
+        task.setVersion(rs.getLong(9));
         return task;
     }
 }
@@ -7,13 +7,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class UserRowMapper implements RowMapper<User> {
+
+    public static final String COLUMNS = "id, username, email, created_at";
+
     @Override
     public User mapRow(ResultSet rs, int rowNum) throws SQLException {
         User user = new User();
-        user.setId(rs.getLong("id"));
-        user.setUsername(rs.getString("username"));
-        user.setEmail(rs.getString("email"));
-        user.setCreatedAt(rs.getTimestamp("created_at"));
+        user.setId(rs.getLong(1));
+        user.setUsername(rs.getString(2));
+        user.setEmail(rs.getString(3));
+        user.setCreatedAt(rs.getTimestamp(4));
         return user;
     }
 }
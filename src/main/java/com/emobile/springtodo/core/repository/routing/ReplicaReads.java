@@ -0,0 +1,87 @@
+package com.emobile.springtodo.core.repository.routing;
+
+import com.emobile.springtodo.core.config.properties.AppReplicaProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class ReplicaReads {
+
+    private static final ThreadLocal<Boolean> REPLICA_REQUESTED = new ThreadLocal<>();
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaReads(AppReplicaProperties appReplicaProperties) {
+        this.enabled = appReplicaProperties.isEnable();
+        this.windowNanos = appReplicaProperties.getReadYourWritesWindow().toNanos();
+    }
+
+    static boolean isReplicaRequested() {
+        return Boolean.TRUE.equals(REPLICA_REQUESTED.get());
+    }
+
+    public <T> T forUser(Long userId, Supplier<T> query) {
+        if (wroteRecently(userId)) {
+            return query.get();
+        }
+        return onReplica(query);
+    }
+
+    public <T> Optional<T> withPrimaryFallback(Supplier<Optional<T>> query) {
+        Optional<T> result = onReplica(query);
+        if (result.isEmpty() && enabled) {
+            return query.get();
+        }
+        return result;
+    }
+
+    public <T> Optional<T> withPrimaryFallback(Long userId, Supplier<Optional<T>> query) {
+        if (wroteRecently(userId)) {
+            return query.get();
+        }
+        return withPrimaryFallback(query);
+    }
+
+    public void markWrite(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastWrites.size() > PRUNE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+        lastWrites.put(userId, now);
+    }
+
+    boolean wroteRecently(Long userId) {
+        Long writtenAt = lastWrites.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > windowNanos) {
+            lastWrites.remove(userId, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    private <T> T onReplica(Supplier<T> query) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return query.get();
+        }
+        REPLICA_REQUESTED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            REPLICA_REQUESTED.remove();
+        }
+    }
+}
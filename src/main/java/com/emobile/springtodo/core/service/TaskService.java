@@ -1,94 +1,278 @@
 package com.emobile.springtodo.core.service;
 
 import com.emobile.springtodo.api.input.CreateTaskRequest;
+import com.emobile.springtodo.api.input.UpdateTaskRequest;
 import com.emobile.springtodo.core.config.properties.AppCacheProperties;
+import com.emobile.springtodo.core.entity.db.RankedTask;
 import com.emobile.springtodo.core.entity.db.Task;
 import com.emobile.springtodo.core.entity.db.TaskStatus;
 import com.emobile.springtodo.core.entity.db.User;
 import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.entity.dto.TaskSearchDto;
+import com.emobile.springtodo.core.entity.dto.TaskStatsDto;
+import com.emobile.springtodo.core.exception.AccessRightsException;
+import com.emobile.springtodo.core.exception.InvalidCursorException;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.exception.ToDoAppException;
+import com.emobile.springtodo.core.exception.TooManyIdsException;
+import com.emobile.springtodo.core.exception.VersionConflictException;
 import com.emobile.springtodo.core.mapper.TaskMapper;
 import com.emobile.springtodo.core.repository.TaskJDBCRepository;
-import com.emobile.springtodo.core.service.aspect.annotation.RightsVerification;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilters;
+import com.emobile.springtodo.core.service.batching.TaskInsertCoalescer;
+import com.emobile.springtodo.core.service.cache.BatchCacheOperations;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.events.TaskChangeType;
+import com.emobile.springtodo.core.service.events.TaskChangedEvent;
+import com.emobile.springtodo.core.service.pagination.TaskCursor;
+import com.emobile.springtodo.core.service.pagination.TaskFilter;
+import com.emobile.springtodo.core.service.pagination.TaskSearchCursor;
+import com.emobile.springtodo.core.service.reminder.ReminderService;
+import com.emobile.springtodo.core.service.writebehind.TaskTransitionWriteBehind;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @CacheConfig(cacheManager = "redisCacheManager")
 public class TaskService {
 
+    public static final int MAX_IDS_PER_REQUEST = 500;
+
     private final TaskJDBCRepository taskRepository;
     private final UserService userService;
     private final TaskMapper taskMapper;
     private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+    private final BatchCacheOperations batchCacheOperations;
+    private final UserTaskCacheKeys userTaskCacheKeys;
+    private final IdBloomFilters idBloomFilters;
+    private final ReminderService reminderService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskTransitionWriteBehind transitionWriteBehind;
+    private final TaskInsertCoalescer insertCoalescer;
 
     private Task findTaskById(Long id) {
+        if (!idBloomFilters.tasks().mightContain(id)) {
+            throw new ObjectNotFoundException("Task with id: " + id + " not found", Timestamp.from(Instant.now()), false);
+        }
         return taskRepository.findById(id).orElseThrow(() ->
                 new ObjectNotFoundException("Task with id: " + id + " not found", Timestamp.from(Instant.now())));
     }
 
-    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASK_BY_ID, key = "#id")
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASK_BY_ID, key = "#id",
+            condition = "@idBloomFilters.tasks().mightContain(#id)")
     public TaskDto getTaskById(Long id) throws ObjectNotFoundException {
         Task task = findTaskById(id);
         return taskMapper.taskToDto(task);
     }
 
-    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASKS_BY_USER, key = "#userId + ',' + #limit + ',' + #offset")
+    public List<TaskDto> getTasksByIds(List<Long> ids) throws TooManyIdsException {
+        if (ids.size() > MAX_IDS_PER_REQUEST) {
+            throw new TooManyIdsException("No more than " + MAX_IDS_PER_REQUEST + " tasks can be requested at once", Timestamp.from(Instant.now()));
+        }
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Cache cache = cacheManager.getCache(AppCacheProperties.CacheNames.TASK_BY_ID);
+        Map<Long, TaskDto> found = cache != null
+                ? batchCacheOperations.getAll(cache, distinctIds, TaskDto.class)
+                : new HashMap<>();
+
+        List<Long> misses = distinctIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        if (!misses.isEmpty()) {
+            Map<Long, TaskDto> loaded = new HashMap<>();
+            for (Task task : taskRepository.findByIds(misses)) {
+                loaded.put(task.getId(), taskMapper.taskToDto(task));
+            }
+            if (cache != null) {
+                batchCacheOperations.putAll(cache, loaded);
+            }
+            found.putAll(loaded);
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASKS_BY_USER, key = "@userTaskCacheKeys.namespace(#userId) + ',' + #limit + ',' + #offset")
     public List<TaskDto> getTasksByUser(Long userId, int limit, int offset) throws ObjectNotFoundException {
         List<Task> tasks = taskRepository.findByUser(userId, limit, offset);
         return taskMapper.listTaskToListTaskDto(tasks);
     }
 
-    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASK_COUNT, key = "#userId")
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASKS_BY_USER,
+            key = "@userTaskCacheKeys.namespace(#userId) + ',' + #limit + ',' + #offset + ',' + #filter.cacheKey()")
+    public List<TaskDto> getTasksByUser(Long userId, TaskFilter filter, int limit, int offset) {
+        List<Task> tasks = taskRepository.findByUser(userId, filter, limit, offset);
+        return taskMapper.listTaskToListTaskDto(tasks);
+    }
+
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASKS_BY_USER, key = "@userTaskCacheKeys.namespace(#userId) + ',' + #limit + ',after=' + #after")
+    public List<TaskDto> getTasksByUser(Long userId, int limit, String after) throws InvalidCursorException {
+        List<Task> tasks = taskRepository.findByUserAfter(userId, TaskCursor.decode(after), limit);
+        return taskMapper.listTaskToListTaskDto(tasks);
+    }
+
+    public TaskSearchDto searchTasksByUser(Long userId, String query, int limit, String after)
+            throws ObjectNotFoundException, InvalidCursorException {
+        TaskSearchCursor cursor = TaskSearchCursor.decode(after);
+        userService.findUserById(userId);
+        List<RankedTask> found = taskRepository.search(userId, query, cursor, limit);
+        List<TaskDto> tasks = found.stream()
+                .map(rankedTask -> taskMapper.taskToDto(rankedTask.task()))
+                .toList();
+        String nextCursor = null;
+        if (!found.isEmpty() && found.size() == limit) {
+            RankedTask last = found.get(found.size() - 1);
+            nextCursor = new TaskSearchCursor(last.rank(), last.task().getId()).encode();
+        }
+        return new TaskSearchDto(tasks, nextCursor);
+    }
+
+    public void exportTasksByUser(Long userId, Consumer<TaskDto> consumer) {
+        taskRepository.streamByUser(userId, task -> consumer.accept(taskMapper.taskToDto(task)));
+    }
+
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASK_COUNT, key = "@userTaskCacheKeys.namespace(#userId)")
     public Long getTaskCountByUser(Long userId) {
         return taskRepository.getTaskCountByUser(userId);
     }
 
-    @Caching(
-            evict = {
-                    @CacheEvict(cacheNames = AppCacheProperties.CacheNames.TASKS_BY_USER, key = "#request.userId"),
-                    @CacheEvict(cacheNames = AppCacheProperties.CacheNames.TASK_COUNT, key = "#request.userId")
-            }
-    )
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.TASK_COUNT, key = "@userTaskCacheKeys.namespace(#userId) + ',' + #filter.cacheKey()")
+    public Long getTaskCountByUser(Long userId, TaskFilter filter) {
+        return taskRepository.countByUser(userId, filter);
+    }
+
+    public TaskStatsDto getTaskStatsByUser(Long userId) throws ObjectNotFoundException {
+        userService.findUserById(userId);
+        Map<TaskStatus, Long> counts = taskRepository.getTaskCountsByStatus(userId);
+        long todo = counts.get(TaskStatus.TODO);
+        long inProgress = counts.get(TaskStatus.IN_PROGRESS);
+        long done = counts.get(TaskStatus.DONE);
+        long overdue = taskRepository.countOverdueByUser(userId);
+        return new TaskStatsDto(userId, todo + inProgress + done, todo, inProgress, done, overdue);
+    }
+
     public TaskDto createTask(CreateTaskRequest request) throws ObjectNotFoundException {
         User user = userService.findUserById(request.getUserId());
 
         Task task = taskMapper.requestToTask(request);
         task.setUserId(user.getId());
         task.setStatus(TaskStatus.TODO);
-        return taskMapper.taskToDto(
-                taskRepository.save(task)
+        TaskDto created = taskMapper.taskToDto(
+                insertCoalescer.isEnabled() ? insertCoalescer.insert(task) : taskRepository.save(task)
         );
+        userTaskCacheKeys.evict(user.getId());
+        reminderService.schedule(created);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.CREATED, created));
+        return created;
     }
 
-    @RightsVerification
-    public TaskDto startTask(Long id, Long userId) throws ObjectNotFoundException {
-        Task task = findTaskById(id);
-        task.setStatus(TaskStatus.IN_PROGRESS);
-        return taskMapper.taskToDto(
-                taskRepository.save(task)
+    @Transactional
+    public List<TaskDto> createTasks(List<CreateTaskRequest> requests) throws ObjectNotFoundException {
+        Set<Long> userIds = new LinkedHashSet<>();
+        requests.forEach(request -> userIds.add(request.getUserId()));
+        userIds.forEach(userService::findUserById);
+
+        List<Task> tasks = new ArrayList<>(requests.size());
+        for (CreateTaskRequest request : requests) {
+            Task task = taskMapper.requestToTask(request);
+            task.setUserId(request.getUserId());
+            task.setStatus(TaskStatus.TODO);
+            tasks.add(task);
+        }
+        List<TaskDto> created = taskMapper.listTaskToListTaskDto(
+                taskRepository.saveAll(tasks)
         );
+        evictUserTaskCaches(userIds);
+        for (TaskDto task : created) {
+            reminderService.schedule(task);
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.CREATED, task));
+        }
+        return created;
     }
 
-    @RightsVerification
-    public TaskDto endTask(Long id, Long userId) throws ObjectNotFoundException {
-        Task task = findTaskById(id);
-        task.setStatus(TaskStatus.DONE);
-        task.setEndData(new Timestamp(new Date().getTime()));
+    @CachePut(cacheNames = AppCacheProperties.CacheNames.TASK_BY_ID, key = "#id")
+    public TaskDto startTask(Long id, Long userId) throws ObjectNotFoundException, AccessRightsException {
+        Task task = transitionWriteBehind.isEnabled()
+                ? transitionWriteBehind.transition(id, userId, TaskStatus.IN_PROGRESS, null, this::findTaskById)
+                : taskRepository.startTask(id, userId).orElseThrow(() -> transitionRejected(id));
+        TaskDto started = taskMapper.taskToDto(task);
+        userTaskCacheKeys.evict(userId);
+        reminderService.reschedule(started);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.STARTED, started));
+        return started;
+    }
+
+    @CachePut(cacheNames = AppCacheProperties.CacheNames.TASK_BY_ID, key = "#id")
+    public TaskDto endTask(Long id, Long userId) throws ObjectNotFoundException, AccessRightsException {
+        Timestamp endDate = new Timestamp(new Date().getTime());
+        Task task = transitionWriteBehind.isEnabled()
+                ? transitionWriteBehind.transition(id, userId, TaskStatus.DONE, endDate, this::findTaskById)
+                : taskRepository.endTask(id, userId, endDate).orElseThrow(() -> transitionRejected(id));
         meterRegistry.counter("tasks.completed.total").increment();
-        return taskMapper.taskToDto(
-                taskRepository.save(task)
-        );
+        reminderService.cancel(id);
+        TaskDto ended = taskMapper.taskToDto(task);
+        userTaskCacheKeys.evict(userId);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.ENDED, ended));
+        return ended;
+    }
+
+    @CachePut(cacheNames = AppCacheProperties.CacheNames.TASK_BY_ID, key = "#id")
+    public TaskDto updateTask(Long id, UpdateTaskRequest request)
+            throws ObjectNotFoundException, AccessRightsException, VersionConflictException {
+        if (transitionWriteBehind.isEnabled()) {
+            transitionWriteBehind.flushTask(id);
+        }
+        Task changes = taskMapper.updateRequestToTask(request);
+        Task task = taskRepository.update(id, request.getUserId(), request.getVersion(), changes)
+                .orElseThrow(() -> updateRejected(id, request.getUserId()));
+        TaskDto updated = taskMapper.taskToDto(task);
+        userTaskCacheKeys.evict(request.getUserId());
+        if (request.getDeadline() != null) {
+            reminderService.schedule(updated);
+        } else {
+            reminderService.reschedule(updated);
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.UPDATED, updated));
+        return updated;
+    }
+
+    private ToDoAppException updateRejected(Long id, Long userId) {
+        Optional<Long> ownerId = taskRepository.findOwnerId(id);
+        if (ownerId.isEmpty()) {
+            return new ObjectNotFoundException("Task with id: " + id + " not found", Timestamp.from(Instant.now()));
+        }
+        if (!ownerId.get().equals(userId)) {
+            return new AccessRightsException("Ошибка прав доступа пользователя!", Timestamp.from(Instant.now()));
+        }
+        return new VersionConflictException("Task with id: " + id + " has been modified by another request", Timestamp.from(Instant.now()));
+    }
+
+    private ToDoAppException transitionRejected(Long id) {
+        if (taskRepository.findOwnerId(id).isEmpty()) {
+            return new ObjectNotFoundException("Task with id: " + id + " not found", Timestamp.from(Instant.now()));
+        }
+        return new AccessRightsException("Ошибка прав доступа пользователя!", Timestamp.from(Instant.now()));
+    }
+
+    public void evictUserTaskCaches(Collection<Long> userIds) {
+        userTaskCacheKeys.evict(userIds);
     }
 }
@@ -8,6 +8,9 @@ import com.emobile.springtodo.core.exception.ObjectNotFoundException;
 import com.emobile.springtodo.core.exception.UserAlreadyExistsException;
 import com.emobile.springtodo.core.mapper.UserMapper;
 import com.emobile.springtodo.core.repository.UserJDBCRepository;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilters;
+import com.emobile.springtodo.core.service.deletion.UserDeletionJob;
+import com.emobile.springtodo.core.service.deletion.UserDeletionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
@@ -21,45 +24,67 @@ import java.util.Date;
 @Service
 @CacheConfig(cacheManager = "redisCacheManager")
 public class UserService {
+    private static final String USERNAME = "username";
+    private static final String EMAIL = "email";
+
     private final UserJDBCRepository userRepository;
     private final UserMapper userMapper;
+    private final IdBloomFilters idBloomFilters;
+    private final UserDeletionService userDeletionService;
 
     @Autowired
-    public UserService(UserJDBCRepository userRepository, UserMapper userMapper) {
+    public UserService(UserJDBCRepository userRepository, UserMapper userMapper, IdBloomFilters idBloomFilters,
+                       UserDeletionService userDeletionService) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.idBloomFilters = idBloomFilters;
+        this.userDeletionService = userDeletionService;
     }
 
-    @Cacheable(cacheNames = AppCacheProperties.CacheNames.USER_BY_ID, key = "#id")
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.USER_BY_ID, key = "#id",
+            condition = "@idBloomFilters.users().mightContain(#id)")
     public UserDto getUserDtoById(Long id) throws ObjectNotFoundException {
         User user = findUserById(id);
         return userMapper.userToDto(user);
     }
 
-    @Cacheable(cacheNames = AppCacheProperties.CacheNames.USER_BY_ID, key = "#id")
+    @Cacheable(cacheNames = AppCacheProperties.CacheNames.USER_BY_ID, key = "#id",
+            condition = "@idBloomFilters.users().mightContain(#id)")
     public User findUserById(Long id) {
+        if (!idBloomFilters.users().mightContain(id)) {
+            throw new ObjectNotFoundException("User with id: " + id + " not found", Timestamp.from(Instant.now()), false);
+        }
         return userRepository.findById(id).orElseThrow(() ->
                 new ObjectNotFoundException("User with id: " + id + " not found", Timestamp.from(Instant.now())));
     }
 
     public UserDto createUser(CreateUserRequest request) {
-        userRepository.findByUsername(request.getUsername()).ifPresent(v -> {
-            throw new UserAlreadyExistsException("User with username: " + request.getUsername() + " already exists. Try a different name.", Timestamp.from(Instant.now()));
-        });
-        userRepository.findByEmail(request.getEmail()).ifPresent(v -> {
-            throw new UserAlreadyExistsException("User with email: " + request.getEmail() + " already exists. Try a different email.", Timestamp.from(Instant.now()));
-        });
-
         User user = userMapper.requestToUser(request);
         user.setCreatedAt(new Timestamp(new Date().getTime()));
 
         return userMapper.userToDto(
-                userRepository.save(user)
+                userRepository.saveIfAbsent(user)
+                        .orElseThrow(() -> alreadyExists(request))
         );
     }
 
+    private UserAlreadyExistsException alreadyExists(CreateUserRequest request) {
+        String column = userRepository.findConflictingColumn(request.getUsername(), request.getEmail()).orElse(null);
+        if (USERNAME.equals(column)) {
+            return new UserAlreadyExistsException("User with username: " + request.getUsername() + " already exists. Try a different name.", Timestamp.from(Instant.now()), USERNAME);
+        }
+        if (EMAIL.equals(column)) {
+            return new UserAlreadyExistsException("User with email: " + request.getEmail() + " already exists. Try a different email.", Timestamp.from(Instant.now()), EMAIL);
+        }
+        return new UserAlreadyExistsException("User with username: " + request.getUsername() + " or email: " + request.getEmail() + " already exists.", Timestamp.from(Instant.now()));
+    }
+
     @CacheEvict(cacheNames = AppCacheProperties.CacheNames.USER_BY_ID, key = "#id")
-    public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+    public UserDeletionJob deleteUser(Long id) throws ObjectNotFoundException {
+        return userDeletionService.start(id);
+    }
+
+    public UserDeletionJob getDeletionJob(Long id) throws ObjectNotFoundException {
+        return userDeletionService.getJob(id);
     }
 }
@@ -1,12 +0,0 @@
-package com.emobile.springtodo.core.service.aspect.annotation;
-
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
-
-@Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.METHOD)
-public @interface RightsVerification {
-    int user() default 1;
-}
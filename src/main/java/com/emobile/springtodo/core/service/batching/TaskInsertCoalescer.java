@@ -0,0 +1,174 @@
+package com.emobile.springtodo.core.service.batching;
+
+import com.emobile.springtodo.core.config.properties.AppInsertBatchingProperties;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Slf4j
+public class TaskInsertCoalescer {
+
+    private static final int MAX_BATCH_SIZE = Short.MAX_VALUE / 7;
+
+    private final TaskJDBCRepository taskRepository;
+    private final AppInsertBatchingProperties batchingProperties;
+    private final Queue<PendingInsert> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger callers = new AtomicInteger();
+    private final ReentrantLock leaderLock = new ReentrantLock();
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter fallbackCounter;
+    private volatile Thread leader;
+
+    public TaskInsertCoalescer(TaskJDBCRepository taskRepository,
+                               AppInsertBatchingProperties batchingProperties,
+                               MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.batchingProperties = batchingProperties;
+        this.batchTimer = meterRegistry.timer("tasks.insert.batch");
+        this.batchSizeSummary = meterRegistry.summary("tasks.insert.batch.size");
+        this.fallbackCounter = meterRegistry.counter("tasks.insert.fallback.total");
+    }
+
+    public boolean isEnabled() {
+        return batchingProperties.isEnable();
+    }
+
+    public Task insert(Task task) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return taskRepository.save(task);
+        }
+        callers.incrementAndGet();
+        PendingInsert insert = new PendingInsert(task, Thread.currentThread(), new CompletableFuture<>());
+        queue.offer(insert);
+        if (pending.incrementAndGet() >= batchSize()) {
+            LockSupport.unpark(leader);
+        }
+        boolean interrupted = false;
+        try {
+            while (!insert.inserted().isDone()) {
+                if (leaderLock.tryLock()) {
+                    try {
+                        if (!insert.inserted().isDone()) {
+                            lead();
+                        }
+                    } finally {
+                        leaderLock.unlock();
+                    }
+                    PendingInsert next = queue.peek();
+                    if (next != null) {
+                        LockSupport.unpark(next.caller());
+                    }
+                } else {
+                    LockSupport.parkNanos(this, batchingProperties.getWindow().toNanos());
+                    interrupted |= Thread.interrupted();
+                }
+            }
+        } finally {
+            callers.decrementAndGet();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            return insert.inserted().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void lead() {
+        int batchSize = batchSize();
+        if (callers.get() > 1) {
+            long deadline = System.nanoTime() + batchingProperties.getWindow().toNanos();
+            leader = Thread.currentThread();
+            try {
+                long remaining;
+                while (pending.get() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+            } finally {
+                leader = null;
+            }
+        }
+        List<PendingInsert> batch = new ArrayList<>(Math.min(pending.get(), batchSize));
+        PendingInsert next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        pending.addAndGet(-batch.size());
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<PendingInsert> batch) {
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (PendingInsert insert : batch) {
+            tasks.add(insert.task());
+        }
+        long startedAt = System.nanoTime();
+        try {
+            taskRepository.insertAll(tasks);
+            for (PendingInsert insert : batch) {
+                complete(insert, insert.task(), null);
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                complete(batch.get(0), null, e);
+                return;
+            }
+            fallbackCounter.increment();
+            log.warn("Group insert of {} tasks failed, inserting them one by one: {}", batch.size(), e.getMessage());
+            for (PendingInsert insert : batch) {
+                insert.task().setId(null);
+                try {
+                    complete(insert, taskRepository.save(insert.task()), null);
+                } catch (RuntimeException failure) {
+                    complete(insert, null, failure);
+                }
+            }
+        } finally {
+            batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    private void complete(PendingInsert insert, Task task, RuntimeException failure) {
+        if (failure == null) {
+            insert.inserted().complete(task);
+        } else {
+            insert.inserted().completeExceptionally(failure);
+        }
+        LockSupport.unpark(insert.caller());
+    }
+
+    private int batchSize() {
+        return Math.max(1, Math.min(batchingProperties.getBatchSize(), MAX_BATCH_SIZE));
+    }
+
+    private record PendingInsert(Task task, Thread caller, CompletableFuture<Task> inserted) {
+    }
+}
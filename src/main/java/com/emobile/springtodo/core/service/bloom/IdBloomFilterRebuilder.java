@@ -0,0 +1,73 @@
+package com.emobile.springtodo.core.service.bloom;
+
+import com.emobile.springtodo.core.config.properties.AppBloomProperties;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.repository.UserJDBCRepository;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilter;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilters;
+import com.emobile.springtodo.core.repository.bloom.IdBloomGuard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "app.bloom", name = "enable", havingValue = "true")
+public class IdBloomFilterRebuilder {
+
+    private final TaskJDBCRepository taskRepository;
+    private final UserJDBCRepository userRepository;
+    private final IdBloomFilters idBloomFilters;
+    private final AppBloomProperties bloomProperties;
+
+    public IdBloomFilterRebuilder(TaskJDBCRepository taskRepository,
+                                  UserJDBCRepository userRepository,
+                                  IdBloomFilters idBloomFilters,
+                                  AppBloomProperties bloomProperties,
+                                  MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.idBloomFilters = idBloomFilters;
+        this.bloomProperties = bloomProperties;
+        registerGauges(meterRegistry, "tasks", idBloomFilters.tasks());
+        registerGauges(meterRegistry, "users", idBloomFilters.users());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.bloom.rebuild-interval}", initialDelayString = "${app.bloom.rebuild-interval}")
+    public void rebuild() {
+        rebuild("tasks", idBloomFilters.tasks(), taskRepository::streamIds);
+        rebuild("users", idBloomFilters.users(), userRepository::streamIds);
+    }
+
+    private void rebuild(String name, IdBloomGuard guard, Consumer<LongConsumer> loader) {
+        long expected = Math.max(bloomProperties.getExpectedInsertions(), guard.getInsertions() * 2);
+        long startedAt = System.currentTimeMillis();
+        try {
+            guard.rebuild(new IdBloomFilter(expected, bloomProperties.getFalsePositiveRate()), loader);
+            log.info("Rebuilt {} id filter: {} ids, {} bytes in {} ms",
+                    name, guard.getInsertions(), guard.getMemoryBytes(), System.currentTimeMillis() - startedAt);
+        } catch (DataAccessException e) {
+            log.warn("Failed to rebuild {} id filter: {}", name, e.getMessage());
+        }
+    }
+
+    private void registerGauges(MeterRegistry meterRegistry, String name, IdBloomGuard guard) {
+        Gauge.builder("bloom.filter.false.positive.rate", guard, IdBloomGuard::getFalsePositiveRate)
+                .tag("filter", name)
+                .register(meterRegistry);
+        Gauge.builder("bloom.filter.memory", guard, IdBloomGuard::getMemoryBytes)
+                .tag("filter", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,121 @@
+package com.emobile.springtodo.core.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class BatchCacheOperations {
+
+    private final ObjectProvider<RedisConnectionFactory> connectionFactory;
+
+    public <K, V> Map<K, V> getAll(Cache cache, List<K> keys, Class<V> type) {
+        Map<K, V> values = new HashMap<>();
+        RedisConnectionFactory factory = connectionFactory.getIfAvailable();
+        if (keys.isEmpty()) {
+            return values;
+        }
+        if (!(cache instanceof RedisCache redisCache) || factory == null) {
+            for (K key : keys) {
+                V value = cache.get(key, type);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+            return values;
+        }
+
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = rawKey(redisCache, keys.get(i));
+        }
+        List<byte[]> rawValues;
+        try (RedisConnection connection = factory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+        if (rawValues == null) {
+            return values;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] rawValue = rawValues.get(i);
+            if (rawValue == null) {
+                continue;
+            }
+            Object value = config.getValueSerializationPair().read(ByteBuffer.wrap(rawValue));
+            if (type.isInstance(value)) {
+                values.put(keys.get(i), type.cast(value));
+            }
+        }
+        return values;
+    }
+
+    public <K, V> void putAll(Cache cache, Map<K, V> values) {
+        RedisConnectionFactory factory = connectionFactory.getIfAvailable();
+        if (values.isEmpty()) {
+            return;
+        }
+        if (!(cache instanceof RedisCache redisCache) || factory == null) {
+            values.forEach(cache::put);
+            return;
+        }
+
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        try (RedisConnection connection = factory.getConnection()) {
+            connection.openPipeline();
+            values.forEach((key, value) -> {
+                byte[] rawValue = ByteUtils.getBytes(config.getValueSerializationPair().write(value));
+                Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+                if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+                    connection.stringCommands().set(rawKey(redisCache, key), rawValue,
+                            Expiration.from(ttl), RedisStringCommands.SetOption.upsert());
+                } else {
+                    connection.stringCommands().set(rawKey(redisCache, key), rawValue);
+                }
+            });
+            connection.closePipeline();
+        }
+    }
+
+    public <K> void evictAll(Cache cache, Collection<K> keys) {
+        RedisConnectionFactory factory = connectionFactory.getIfAvailable();
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (!(cache instanceof RedisCache redisCache) || factory == null) {
+            keys.forEach(cache::evict);
+            return;
+        }
+
+        byte[][] rawKeys = keys.stream()
+                .map(key -> rawKey(redisCache, key))
+                .toArray(byte[][]::new);
+        try (RedisConnection connection = factory.getConnection()) {
+            connection.keyCommands().del(rawKeys);
+        }
+    }
+
+    private byte[] rawKey(RedisCache cache, Object key) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        String cacheKey = config.usePrefix()
+                ? config.getKeyPrefixFor(cache.getName()) + key
+                : String.valueOf(key);
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(cacheKey));
+    }
+}
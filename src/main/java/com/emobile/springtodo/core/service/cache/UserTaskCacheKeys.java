@@ -0,0 +1,65 @@
+package com.emobile.springtodo.core.service.cache;
+
+import com.emobile.springtodo.core.config.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@RequiredArgsConstructor
+public class UserTaskCacheKeys {
+
+    private final CacheManager cacheManager;
+
+    public String namespace(Long userId) {
+        Cache generations = cacheManager.getCache(AppCacheProperties.CacheNames.TASK_CACHE_GENERATION);
+        if (generations == null) {
+            return String.valueOf(userId);
+        }
+        String generation = generations.get(userId, String.class);
+        if (generation == null) {
+            String created = newGeneration();
+            Cache.ValueWrapper existing = generations.putIfAbsent(userId, created);
+            generation = existing != null && existing.get() instanceof String current ? current : created;
+        }
+        return userId + "@" + generation;
+    }
+
+    public void evict(Long userId) {
+        evict(List.of(userId));
+    }
+
+    public void evict(Collection<Long> userIds) {
+        rotate(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> affected = List.copyOf(userIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rotate(affected);
+                }
+            });
+        }
+    }
+
+    private void rotate(Collection<Long> userIds) {
+        Cache generations = cacheManager.getCache(AppCacheProperties.CacheNames.TASK_CACHE_GENERATION);
+        if (generations == null) {
+            return;
+        }
+        for (Long userId : userIds) {
+            generations.put(userId, newGeneration());
+        }
+    }
+
+    private static String newGeneration() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,62 @@
+package com.emobile.springtodo.core.service.deletion;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UserDeletionJob {
+
+    private final Long userId;
+    private final Timestamp createdAt = Timestamp.from(Instant.now());
+    private final AtomicLong tasksDeleted = new AtomicLong();
+    private volatile UserDeletionStatus status = UserDeletionStatus.PENDING;
+    private volatile Timestamp finishedAt;
+    private volatile String error;
+
+    public UserDeletionJob(Long userId) {
+        this.userId = userId;
+    }
+
+    void start() {
+        status = UserDeletionStatus.RUNNING;
+    }
+
+    void tasksDeleted(int count) {
+        tasksDeleted.addAndGet(count);
+    }
+
+    void complete() {
+        finishedAt = Timestamp.from(Instant.now());
+        status = UserDeletionStatus.COMPLETED;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finishedAt = Timestamp.from(Instant.now());
+        status = UserDeletionStatus.FAILED;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserDeletionStatus getStatus() {
+        return status;
+    }
+
+    public long getTasksDeleted() {
+        return tasksDeleted.get();
+    }
+
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+
+    public Timestamp getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,211 @@
+package com.emobile.springtodo.core.service.deletion;
+
+import com.emobile.springtodo.core.config.properties.AppCacheProperties;
+import com.emobile.springtodo.core.config.properties.AppUserDeletionProperties;
+import com.emobile.springtodo.core.entity.db.TaskPartition;
+import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.repository.TaskPartitionRepository;
+import com.emobile.springtodo.core.repository.UserJDBCRepository;
+import com.emobile.springtodo.core.service.cache.BatchCacheOperations;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.reminder.ReminderService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class UserDeletionService {
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofDays(1);
+
+    private final UserJDBCRepository userRepository;
+    private final TaskJDBCRepository taskRepository;
+    private final TaskPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final BatchCacheOperations batchCacheOperations;
+    private final UserTaskCacheKeys userTaskCacheKeys;
+    private final TaskExecutor userDeletionExecutor;
+    private final AppUserDeletionProperties deletionProperties;
+    private final ReminderService reminderService;
+    private final Map<Long, UserDeletionJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserDeletionService(UserJDBCRepository userRepository,
+                               TaskJDBCRepository taskRepository,
+                               TaskPartitionRepository partitionRepository,
+                               PlatformTransactionManager transactionManager,
+                               CacheManager cacheManager,
+                               BatchCacheOperations batchCacheOperations,
+                               UserTaskCacheKeys userTaskCacheKeys,
+                               AppUserDeletionProperties deletionProperties,
+                               ReminderService reminderService) {
+        this(userRepository, taskRepository, partitionRepository, transactionManager, cacheManager,
+                batchCacheOperations, userTaskCacheKeys, newExecutor(), deletionProperties, reminderService);
+    }
+
+    public UserDeletionService(UserJDBCRepository userRepository,
+                               TaskJDBCRepository taskRepository,
+                               TaskPartitionRepository partitionRepository,
+                               PlatformTransactionManager transactionManager,
+                               CacheManager cacheManager,
+                               BatchCacheOperations batchCacheOperations,
+                               UserTaskCacheKeys userTaskCacheKeys,
+                               TaskExecutor userDeletionExecutor,
+                               AppUserDeletionProperties deletionProperties,
+                               ReminderService reminderService) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.partitionRepository = partitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.batchCacheOperations = batchCacheOperations;
+        this.userTaskCacheKeys = userTaskCacheKeys;
+        this.userDeletionExecutor = userDeletionExecutor;
+        this.deletionProperties = deletionProperties;
+        this.reminderService = reminderService;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (userDeletionExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    public UserDeletionJob start(Long userId) throws ObjectNotFoundException {
+        pruneFinishedJobs();
+        if (!userRepository.tombstone(userId)) {
+            UserDeletionJob existing = jobs.get(userId);
+            if (existing == null) {
+                throw new ObjectNotFoundException("User with id: " + userId + " not found", Timestamp.from(Instant.now()));
+            }
+            if (existing.getStatus() != UserDeletionStatus.FAILED) {
+                return existing;
+            }
+        }
+        evictUserCaches(userId);
+        UserDeletionJob job = new UserDeletionJob(userId);
+        jobs.put(userId, job);
+        submitAfterCommit(job);
+        return job;
+    }
+
+    public UserDeletionJob getJob(Long userId) throws ObjectNotFoundException {
+        return Optional.ofNullable(jobs.get(userId)).orElseThrow(() ->
+                new ObjectNotFoundException("No deletion job for user with id: " + userId, Timestamp.from(Instant.now())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeTombstoned() {
+        for (Long userId : userRepository.findTombstonedIds()) {
+            UserDeletionJob job = new UserDeletionJob(userId);
+            if (jobs.putIfAbsent(userId, job) == null) {
+                log.info("Resuming deletion of user {}", userId);
+                userDeletionExecutor.execute(() -> run(job));
+            }
+        }
+    }
+
+    void run(UserDeletionJob job) {
+        Long userId = job.getUserId();
+        Cache taskById = cacheManager.getCache(AppCacheProperties.CacheNames.TASK_BY_ID);
+        int chunkSize = deletionProperties.getChunkSize();
+        job.start();
+        try {
+            List<Long> deleted;
+            do {
+                deleted = taskRepository.deleteChunkByUser(userId, chunkSize);
+                if (taskById != null) {
+                    batchCacheOperations.evictAll(taskById, deleted);
+                }
+                deleted.forEach(reminderService::cancel);
+                job.tasksDeleted(deleted.size());
+                if (deleted.size() == chunkSize) {
+                    Thread.sleep(deletionProperties.getPause().toMillis());
+                }
+            } while (deleted.size() == chunkSize);
+
+            List<Long> archived = transactionTemplate.execute(status -> {
+                List<Long> ids = new ArrayList<>();
+                for (TaskPartition partition : partitionRepository.findDetached()) {
+                    ids.addAll(partitionRepository.deleteArchivedByUser(partition, userId));
+                }
+                userRepository.deleteTombstoned(userId);
+                return ids;
+            });
+            if (taskById != null && !archived.isEmpty()) {
+                batchCacheOperations.evictAll(taskById, archived);
+            }
+            job.tasksDeleted(archived.size());
+            evictUserCaches(userId);
+            job.complete();
+            log.info("Deleted user {} with {} tasks", userId, job.getTasksDeleted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (RuntimeException e) {
+            log.error("Deletion of user {} failed after {} tasks", userId, job.getTasksDeleted(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void submitAfterCommit(UserDeletionJob job) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDeletionExecutor.execute(() -> run(job));
+                }
+            });
+        } else {
+            userDeletionExecutor.execute(() -> run(job));
+        }
+    }
+
+    private void evictUserCaches(Long userId) {
+        Cache userById = cacheManager.getCache(AppCacheProperties.CacheNames.USER_BY_ID);
+        if (userById != null) {
+            userById.evict(userId);
+        }
+        userTaskCacheKeys.evict(userId);
+    }
+
+    private static TaskExecutor newExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("user-deletion-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    private void pruneFinishedJobs() {
+        Instant threshold = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.getStatus() == UserDeletionStatus.COMPLETED
+                && job.getFinishedAt().toInstant().isBefore(threshold));
+    }
+}
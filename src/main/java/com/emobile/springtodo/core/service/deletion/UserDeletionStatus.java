@@ -0,0 +1,8 @@
+package com.emobile.springtodo.core.service.deletion;
+
+public enum UserDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
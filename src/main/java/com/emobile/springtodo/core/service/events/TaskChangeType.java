@@ -0,0 +1,18 @@
+package com.emobile.springtodo.core.service.events;
+
+public enum TaskChangeType {
+    CREATED("created"),
+    UPDATED("updated"),
+    STARTED("started"),
+    ENDED("ended");
+
+    private final String eventName;
+
+    TaskChangeType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
@@ -0,0 +1,6 @@
+package com.emobile.springtodo.core.service.events;
+
+import com.emobile.springtodo.core.entity.dto.TaskDto;
+
+public record TaskChangedEvent(TaskChangeType type, TaskDto task) {
+}
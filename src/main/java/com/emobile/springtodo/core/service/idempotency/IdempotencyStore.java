@@ -0,0 +1,181 @@
+package com.emobile.springtodo.core.service.idempotency;
+
+import com.emobile.springtodo.core.config.properties.AppIdempotencyProperties;
+import com.emobile.springtodo.core.exception.IdempotencyConflictException;
+import com.emobile.springtodo.core.exception.IdempotencyKeyReusedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String PENDING = "PENDING:";
+
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplate;
+    private final AppIdempotencyProperties idempotencyProperties;
+    private final ConcurrentHashMap<String, Claim> inFlight = new ConcurrentHashMap<>();
+    private final Counter replayedCounter;
+    private final Counter conflictCounter;
+    private final Counter reusedCounter;
+
+    public IdempotencyStore(ObjectProvider<RedisTemplate<String, Object>> redisTemplate,
+                            AppIdempotencyProperties idempotencyProperties,
+                            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.idempotencyProperties = idempotencyProperties;
+        this.replayedCounter = meterRegistry.counter("idempotency.replayed.total");
+        this.conflictCounter = meterRegistry.counter("idempotency.conflicts.total");
+        this.reusedCounter = meterRegistry.counter("idempotency.reused.total");
+    }
+
+    public StoredResponse claim(String key, String fingerprint)
+            throws IdempotencyConflictException, IdempotencyKeyReusedException {
+        long deadline = System.nanoTime() + idempotencyProperties.getWaitTimeout().toNanos();
+        while (true) {
+            Claim own = new Claim(fingerprint, new CompletableFuture<>());
+            Claim running = inFlight.putIfAbsent(key, own);
+            if (running == null) {
+                StoredResponse stored;
+                try {
+                    stored = claimShared(key, fingerprint, deadline);
+                } catch (RuntimeException e) {
+                    inFlight.remove(key, own);
+                    own.response().complete(null);
+                    throw e;
+                }
+                if (stored != null) {
+                    inFlight.remove(key, own);
+                    own.response().complete(stored);
+                    replayedCounter.increment();
+                }
+                return stored;
+            }
+            if (!running.fingerprint().equals(fingerprint)) {
+                throw reused(key);
+            }
+            StoredResponse stored = await(key, running.response(), deadline);
+            if (stored != null) {
+                replayedCounter.increment();
+                return stored;
+            }
+        }
+    }
+
+    public void complete(String key, StoredResponse response) {
+        try {
+            RedisTemplate<String, Object> redis = redisTemplate.getIfAvailable();
+            if (redis != null) {
+                redis.opsForValue().set(KEY_PREFIX + key, response, idempotencyProperties.getTtl());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to store response for idempotency key {}: {}", key, e.getMessage());
+        } finally {
+            Claim running = inFlight.remove(key);
+            if (running != null) {
+                running.response().complete(response);
+            }
+        }
+    }
+
+    public void release(String key) {
+        try {
+            RedisTemplate<String, Object> redis = redisTemplate.getIfAvailable();
+            if (redis != null) {
+                redis.delete(KEY_PREFIX + key);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to release idempotency key {}: {}", key, e.getMessage());
+        } finally {
+            Claim running = inFlight.remove(key);
+            if (running != null) {
+                running.response().complete(null);
+            }
+        }
+    }
+
+    private StoredResponse claimShared(String key, String fingerprint, long deadline) {
+        RedisTemplate<String, Object> redis = redisTemplate.getIfAvailable();
+        if (redis == null) {
+            return null;
+        }
+        String redisKey = KEY_PREFIX + key;
+        while (true) {
+            try {
+                if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(redisKey, PENDING + fingerprint, idempotencyProperties.getPendingTtl()))) {
+                    return null;
+                }
+                Object current = redis.opsForValue().get(redisKey);
+                if (current instanceof StoredResponse stored) {
+                    if (stored.fingerprint() != null && !stored.fingerprint().equals(fingerprint)) {
+                        throw reused(key);
+                    }
+                    return stored;
+                }
+                if (current instanceof String pending && pending.startsWith(PENDING) && !pending.equals(PENDING + fingerprint)) {
+                    throw reused(key);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Idempotency key {} is only deduplicated on this node: {}", key, e.getMessage());
+                return null;
+            }
+            if (System.nanoTime() >= deadline) {
+                throw conflict(key);
+            }
+            sleep(idempotencyProperties.getPollInterval().toMillis());
+        }
+    }
+
+    private StoredResponse await(String key, CompletableFuture<StoredResponse> running, long deadline) {
+        try {
+            return running.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw conflict(key);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the in-flight request", e);
+        }
+    }
+
+    private IdempotencyConflictException conflict(String key) {
+        conflictCounter.increment();
+        log.warn("Request with idempotency key {} is still in progress", key);
+        return new IdempotencyConflictException("A request with this Idempotency-Key is still in progress",
+                Timestamp.from(Instant.now()));
+    }
+
+    private IdempotencyKeyReusedException reused(String key) {
+        reusedCounter.increment();
+        log.warn("Idempotency key {} was reused with a different request", key);
+        return new IdempotencyKeyReusedException("This Idempotency-Key was already used with a different request",
+                Timestamp.from(Instant.now()));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the in-flight request", e);
+        }
+    }
+
+    private record Claim(String fingerprint, CompletableFuture<StoredResponse> response) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.emobile.springtodo.core.service.idempotency;
+
+import java.io.Serializable;
+
+public record StoredResponse(int status, String contentType, byte[] body, String fingerprint) implements Serializable {
+}
@@ -0,0 +1,37 @@
+package com.emobile.springtodo.core.service.importing;
+
+import com.emobile.springtodo.core.exception.ImportException;
+import org.springframework.http.MediaType;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+public enum ImportFormat {
+    NDJSON, CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+                return NDJSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+                return CSV;
+            }
+        }
+        throw new ImportException("Unsupported import format: " + contentType, Timestamp.from(Instant.now()));
+    }
+
+    public static ImportFormat fromFileName(String fileName) {
+        if (fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (fileName.endsWith(".csv")) {
+            return CSV;
+        }
+        throw new ImportException("Unsupported import file: " + fileName, Timestamp.from(Instant.now()));
+    }
+}
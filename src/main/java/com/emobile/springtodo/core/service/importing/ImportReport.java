@@ -0,0 +1,45 @@
+package com.emobile.springtodo.core.service.importing;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class ImportReport {
+    private long imported;
+    private long rejected;
+    private long skipped;
+    private int chunks;
+    @Getter(AccessLevel.NONE)
+    private final long startedAt = System.nanoTime();
+    private long elapsedMillis;
+
+    void chunkCopied(long rows) {
+        imported += rows;
+        chunks++;
+    }
+
+    void rowRejected() {
+        rejected++;
+    }
+
+    void rowsRejected(long rows) {
+        rejected += rows;
+    }
+
+    void rowSkipped() {
+        skipped++;
+    }
+
+    void rowsSkipped(long rows) {
+        skipped += rows;
+    }
+
+    ImportReport finish() {
+        elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return this;
+    }
+
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? imported : imported * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,257 @@
+package com.emobile.springtodo.core.service.importing;
+
+import com.emobile.springtodo.api.input.CreateTaskRequest;
+import com.emobile.springtodo.api.input.CreateUserRequest;
+import com.emobile.springtodo.core.config.properties.AppImportProperties;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.entity.db.User;
+import com.emobile.springtodo.core.exception.ImportException;
+import com.emobile.springtodo.core.mapper.TaskMapper;
+import com.emobile.springtodo.core.mapper.UserMapper;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.repository.UserJDBCRepository;
+import com.emobile.springtodo.core.service.TaskService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ImportService {
+
+    private final UserJDBCRepository userRepository;
+    private final TaskJDBCRepository taskRepository;
+    private final TaskService taskService;
+    private final UserMapper userMapper;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final AppImportProperties importProperties;
+    private final MeterRegistry meterRegistry;
+
+    public ImportReport importUsers(InputStream input, ImportFormat format) {
+        ImportReport report = new ImportReport();
+        List<User> chunk = new ArrayList<>(importProperties.getChunkSize());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        readLines(input, format, line -> {
+            CreateUserRequest request = format == ImportFormat.NDJSON
+                    ? readJson(line, CreateUserRequest.class)
+                    : userFromCsv(line);
+            if (request == null || !validator.validate(request).isEmpty()) {
+                report.rowRejected();
+                return;
+            }
+            if (usernames.contains(request.getUsername()) || emails.contains(request.getEmail())) {
+                report.rowSkipped();
+                return;
+            }
+            usernames.add(request.getUsername());
+            emails.add(request.getEmail());
+            User user = userMapper.requestToUser(request);
+            user.setCreatedAt(Timestamp.from(Instant.now()));
+            chunk.add(user);
+            if (chunk.size() >= importProperties.getChunkSize()) {
+                flushUsers(chunk, report);
+            }
+        });
+        flushUsers(chunk, report);
+        return finish(report, "users");
+    }
+
+    public ImportReport importTasks(InputStream input, ImportFormat format) {
+        ImportReport report = new ImportReport();
+        List<Task> chunk = new ArrayList<>(importProperties.getChunkSize());
+        readLines(input, format, line -> {
+            CreateTaskRequest request = format == ImportFormat.NDJSON
+                    ? readJson(line, CreateTaskRequest.class)
+                    : taskFromCsv(line);
+            if (request == null || !validator.validate(request).isEmpty()) {
+                report.rowRejected();
+                return;
+            }
+            Task task = taskMapper.requestToTask(request);
+            task.setStatus(TaskStatus.TODO);
+            task.setCreatedAt(Timestamp.from(Instant.now()));
+            chunk.add(task);
+            if (chunk.size() >= importProperties.getChunkSize()) {
+                flushTasks(chunk, report);
+            }
+        });
+        flushTasks(chunk, report);
+        return finish(report, "tasks");
+    }
+
+    public ImportReport importUsers(String fileName) {
+        try (InputStream input = Files.newInputStream(resolveImportFile(fileName))) {
+            return importUsers(input, ImportFormat.fromFileName(fileName));
+        } catch (IOException e) {
+            throw new ImportException("Failed to read import file: " + fileName, Timestamp.from(Instant.now()));
+        }
+    }
+
+    public ImportReport importTasks(String fileName) {
+        try (InputStream input = Files.newInputStream(resolveImportFile(fileName))) {
+            return importTasks(input, ImportFormat.fromFileName(fileName));
+        } catch (IOException e) {
+            throw new ImportException("Failed to read import file: " + fileName, Timestamp.from(Instant.now()));
+        }
+    }
+
+    private void flushUsers(List<User> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        chunk.forEach(user -> {
+            usernames.add(user.getUsername());
+            emails.add(user.getEmail());
+        });
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        userRepository.findByUsernamesOrEmails(usernames, emails).forEach(user -> {
+            takenUsernames.add(user.getUsername());
+            takenEmails.add(user.getEmail());
+        });
+        int before = chunk.size();
+        chunk.removeIf(user -> takenUsernames.contains(user.getUsername()) || takenEmails.contains(user.getEmail()));
+        report.rowsSkipped(before - chunk.size());
+
+        if (!chunk.isEmpty()) {
+            report.chunkCopied(copy(() -> userRepository.copyIn(chunk), report));
+        }
+        chunk.clear();
+        progress("users", report);
+    }
+
+    private void flushTasks(List<Task> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = new HashSet<>();
+        chunk.forEach(task -> userIds.add(task.getUserId()));
+        Set<Long> existing = userRepository.findExistingIds(userIds);
+        int before = chunk.size();
+        chunk.removeIf(task -> !existing.contains(task.getUserId()));
+        report.rowsRejected(before - chunk.size());
+
+        if (!chunk.isEmpty()) {
+            report.chunkCopied(copy(() -> taskRepository.copyIn(chunk), report));
+            taskService.evictUserTaskCaches(existing);
+        }
+        chunk.clear();
+        progress("tasks", report);
+    }
+
+    private long copy(CopyAction action, ImportReport report) {
+        try {
+            return action.copy();
+        } catch (DataAccessException e) {
+            log.error("Import failed after {} rows in {} chunks", report.getImported(), report.getChunks(), e);
+            throw new ImportException("Import failed after " + report.getImported() + " rows: "
+                    + e.getMostSpecificCause().getMessage(), Timestamp.from(Instant.now()));
+        }
+    }
+
+    private void progress(String target, ImportReport report) {
+        log.info("Import of {}: {} rows copied, {} rejected, {} skipped, {} chunks",
+                target, report.getImported(), report.getRejected(), report.getSkipped(), report.getChunks());
+    }
+
+    private ImportReport finish(ImportReport report, String target) {
+        report.finish();
+        meterRegistry.counter("import.rows.imported", "target", target).increment(report.getImported());
+        meterRegistry.counter("import.rows.rejected", "target", target).increment(report.getRejected());
+        meterRegistry.counter("import.rows.skipped", "target", target).increment(report.getSkipped());
+        log.info("Import of {} finished: {} rows in {} ms ({} rows/s), {} rejected, {} skipped",
+                target, report.getImported(), report.getElapsedMillis(), report.getRowsPerSecond(),
+                report.getRejected(), report.getSkipped());
+        return report;
+    }
+
+    private void readLines(InputStream input, ImportFormat format, Consumer<String> consumer) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (format == ImportFormat.CSV) {
+                reader.readLine();
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    consumer.accept(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new ImportException("Failed to read import stream: " + e.getMessage(), Timestamp.from(Instant.now()));
+        }
+    }
+
+    private <T> T readJson(String line, Class<T> type) {
+        try {
+            return objectMapper.readValue(line, type);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private CreateUserRequest userFromCsv(String line) {
+        List<String> fields = CsvLineParser.parse(line);
+        if (fields.size() != 2) {
+            return null;
+        }
+        CreateUserRequest request = new CreateUserRequest();
+        request.setUsername(fields.get(0));
+        request.setEmail(fields.get(1));
+        return request;
+    }
+
+    private CreateTaskRequest taskFromCsv(String line) {
+        List<String> fields = CsvLineParser.parse(line);
+        if (fields.size() != 4) {
+            return null;
+        }
+        try {
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setUserId(Long.valueOf(fields.get(0).trim()));
+            request.setTitle(fields.get(1));
+            request.setDescription(fields.get(2));
+            request.setDeadline(Timestamp.valueOf(fields.get(3).trim()));
+            return request;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Path resolveImportFile(String fileName) {
+        Path directory = Path.of(importProperties.getDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            throw new ImportException("Import file: " + fileName + " not found", Timestamp.from(Instant.now()));
+        }
+        return file;
+    }
+
+    @FunctionalInterface
+    private interface CopyAction {
+        long copy();
+    }
+}
@@ -0,0 +1,44 @@
+package com.emobile.springtodo.core.service.outbox;
+
+import com.emobile.springtodo.core.entity.db.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxPublisher(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        StringBuilder lines = new StringBuilder(events.size() * 256);
+        try {
+            for (OutboxEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append(System.lineSeparator());
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox events to " + file, e);
+        }
+    }
+}
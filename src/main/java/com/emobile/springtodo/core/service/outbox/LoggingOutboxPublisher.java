@@ -0,0 +1,17 @@
+package com.emobile.springtodo.core.service.outbox;
+
+import com.emobile.springtodo.core.entity.db.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info("Outbox event {}: {} of task {} (user {})", event.id(), event.type(), event.taskId(), event.userId());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.emobile.springtodo.core.service.outbox;
+
+import com.emobile.springtodo.core.entity.db.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxPublisher {
+
+    void publish(List<OutboxEvent> events);
+}
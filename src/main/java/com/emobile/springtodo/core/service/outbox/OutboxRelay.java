@@ -0,0 +1,88 @@
+package com.emobile.springtodo.core.service.outbox;
+
+import com.emobile.springtodo.core.config.properties.AppOutboxProperties;
+import com.emobile.springtodo.core.entity.db.OutboxEvent;
+import com.emobile.springtodo.core.repository.OutboxJDBCRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "app.outbox", name = "enable", havingValue = "true")
+public class OutboxRelay {
+
+    private final OutboxJDBCRepository outboxRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final AppOutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxJDBCRepository outboxRepository,
+                       OutboxPublisher outboxPublisher,
+                       AppOutboxProperties outboxProperties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayedCounter = meterRegistry.counter("outbox.events.relayed.total");
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.interval}")
+    public void relay() {
+        try {
+            relayPending();
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, events stay queued: {}", e.getMessage());
+        }
+    }
+
+    public long relayPending() {
+        int batchSize = outboxProperties.getBatchSize();
+        long relayed = 0;
+        int published;
+        do {
+            long startedAt = System.nanoTime();
+            Integer batch = transactionTemplate.execute(status -> relayBatch(batchSize));
+            batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            published = batch == null ? 0 : batch;
+            relayed += published;
+        } while (published == batchSize);
+        return relayed;
+    }
+
+    public long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    private int relayBatch(int batchSize) {
+        List<OutboxEvent> batch = outboxRepository.lockBatch(batchSize);
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Math.max(0, System.currentTimeMillis() - batch.get(0).createdAt().getTime()));
+        outboxPublisher.publish(batch);
+        outboxRepository.deleteByIds(batch.stream().map(OutboxEvent::id).toList());
+        relayedCounter.increment(batch.size());
+        return batch.size();
+    }
+}
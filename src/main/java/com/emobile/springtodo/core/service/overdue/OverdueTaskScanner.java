@@ -0,0 +1,84 @@
+package com.emobile.springtodo.core.service.overdue;
+
+import com.emobile.springtodo.core.config.properties.AppOverdueProperties;
+import com.emobile.springtodo.core.entity.db.OverdueTask;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "app.overdue", name = "enable", havingValue = "true")
+public class OverdueTaskScanner {
+
+    private final TaskJDBCRepository taskRepository;
+    private final AppOverdueProperties overdueProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter flaggedCounter;
+
+    public OverdueTaskScanner(TaskJDBCRepository taskRepository,
+                              AppOverdueProperties overdueProperties,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.overdueProperties = overdueProperties;
+        this.eventPublisher = eventPublisher;
+        this.flaggedCounter = meterRegistry.counter("tasks.overdue.flagged.total");
+    }
+
+    @Scheduled(fixedDelayString = "${app.overdue.interval}", initialDelayString = "${app.overdue.interval}")
+    public void scan() {
+        try {
+            scan(Timestamp.from(Instant.now()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            log.warn("Overdue task scan failed: {}", e.getMessage());
+        }
+    }
+
+    public Map<Long, Long> scan(Timestamp now) throws InterruptedException {
+        int batchSize = overdueProperties.getBatchSize();
+        long nanosPerRow = TimeUnit.SECONDS.toNanos(1) / overdueProperties.getRowsPerSecond();
+        Map<Long, Long> flaggedByUser = new HashMap<>();
+        OverdueTask last = null;
+        List<OverdueTask> batch;
+        do {
+            long startedAt = System.nanoTime();
+            batch = taskRepository.flagOverdueBatch(now, last, batchSize);
+            for (OverdueTask task : batch) {
+                flaggedByUser.merge(task.userId(), 1L, Long::sum);
+                if (last == null || task.deadline().compareTo(last.deadline()) > 0
+                        || (task.deadline().equals(last.deadline()) && task.id() > last.id())) {
+                    last = task;
+                }
+            }
+            flaggedCounter.increment(batch.size());
+            long budgetNanos = nanosPerRow * batch.size() - (System.nanoTime() - startedAt);
+            if (budgetNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(budgetNanos);
+            }
+        } while (batch.size() == batchSize);
+
+        if (!flaggedByUser.isEmpty()) {
+            taskRepository.countOverdueByUsers(flaggedByUser.keySet()).forEach((userId, overdue) ->
+                    eventPublisher.publishEvent(new TasksOverdueEvent(userId, overdue)));
+            log.info("Flagged {} overdue tasks of {} users",
+                    flaggedByUser.values().stream().mapToLong(Long::longValue).sum(), flaggedByUser.size());
+        }
+        return flaggedByUser;
+    }
+}
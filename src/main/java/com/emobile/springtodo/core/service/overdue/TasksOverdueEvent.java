@@ -0,0 +1,4 @@
+package com.emobile.springtodo.core.service.overdue;
+
+public record TasksOverdueEvent(Long userId, long overdue) {
+}
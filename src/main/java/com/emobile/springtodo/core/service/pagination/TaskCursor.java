@@ -0,0 +1,45 @@
+package com.emobile.springtodo.core.service.pagination;
+
+import com.emobile.springtodo.core.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+
+public final class TaskCursor {
+
+    private static final String PREFIX = "t:";
+
+    private TaskCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw invalid(cursor);
+            }
+            long id = Long.parseLong(raw.substring(PREFIX.length()));
+            if (id < 0) {
+                throw invalid(cursor);
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static InvalidCursorException invalid(String cursor) {
+        return new InvalidCursorException("Cursor: " + cursor + " is not valid", Timestamp.from(Instant.now()));
+    }
+}
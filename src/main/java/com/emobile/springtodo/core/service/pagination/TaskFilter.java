@@ -0,0 +1,35 @@
+package com.emobile.springtodo.core.service.pagination;
+
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import org.springframework.data.domain.Sort;
+
+import java.sql.Timestamp;
+
+public record TaskFilter(TaskStatus status,
+                         Timestamp deadlineFrom,
+                         Timestamp deadlineTo,
+                         TaskSort sort,
+                         Sort.Direction direction) {
+
+    public static final TaskFilter NONE = new TaskFilter(null, null, null, TaskSort.ID, Sort.Direction.ASC);
+
+    public TaskFilter {
+        if (sort == null) {
+            sort = TaskSort.ID;
+        }
+        if (direction == null) {
+            direction = Sort.Direction.ASC;
+        }
+    }
+
+    public boolean isDefault() {
+        return equals(NONE);
+    }
+
+    public String cacheKey() {
+        return "status=" + status
+                + ",from=" + deadlineFrom
+                + ",to=" + deadlineTo
+                + ",sort=" + sort + " " + direction;
+    }
+}
@@ -0,0 +1,47 @@
+package com.emobile.springtodo.core.service.pagination;
+
+import com.emobile.springtodo.core.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+
+public record TaskSearchCursor(float rank, long id) {
+
+    private static final String PREFIX = "s:";
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + rank + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw invalid(cursor);
+            }
+            String[] parts = raw.substring(PREFIX.length()).split(":");
+            if (parts.length != 2) {
+                throw invalid(cursor);
+            }
+            float rank = Float.parseFloat(parts[0]);
+            long id = Long.parseLong(parts[1]);
+            if (!Float.isFinite(rank) || id < 0) {
+                throw invalid(cursor);
+            }
+            return new TaskSearchCursor(rank, id);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static InvalidCursorException invalid(String cursor) {
+        return new InvalidCursorException("Cursor: " + cursor + " is not valid", Timestamp.from(Instant.now()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.emobile.springtodo.core.service.pagination;
+
+public enum TaskSort {
+    ID("id"),
+    DEADLINE("deadline"),
+    CREATED_AT("created_at");
+
+    private final String column;
+
+    TaskSort(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,65 @@
+package com.emobile.springtodo.core.service.partition;
+
+import com.emobile.springtodo.core.config.properties.AppPartitionProperties;
+import com.emobile.springtodo.core.entity.db.TaskPartition;
+import com.emobile.springtodo.core.repository.TaskPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.partition", name = "enable", havingValue = "true")
+public class TaskPartitionService {
+
+    private final TaskPartitionRepository partitionRepository;
+    private final AppPartitionProperties partitionProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partition.cron}")
+    public void maintain() {
+        maintain(LocalDate.now());
+    }
+
+    public void maintain(LocalDate today) {
+        List<TaskPartition> existing = partitionRepository.findPartitions();
+        TaskPartition current = TaskPartition.containing(today);
+
+        for (int i = 0; i <= partitionProperties.getPrecreateQuarters(); i++) {
+            TaskPartition partition = current.plusQuarters(i);
+            if (!existing.contains(partition)) {
+                try {
+                    partitionRepository.create(partition);
+                    log.info("Created task partition {}", partition.name());
+                } catch (DataAccessException e) {
+                    log.warn("Failed to create task partition {}: {}", partition.name(), e.getMessage());
+                }
+            }
+        }
+
+        LocalDate retainFrom = current.plusQuarters(-partitionProperties.getRetainQuarters()).from();
+        for (TaskPartition partition : existing) {
+            if (partition.to().isAfter(retainFrom)) {
+                continue;
+            }
+            try {
+                if (partitionRepository.detachCompleted(partition)) {
+                    log.info("Detached task partition {}", partition.name());
+                } else {
+                    log.info("Kept task partition {}: it still has open tasks", partition.name());
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to detach task partition {}: {}", partition.name(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.emobile.springtodo.core.service.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@Slf4j
+public class FileReminderSink implements ReminderSink {
+
+    private final Path file;
+
+    public FileReminderSink(Path file) {
+        this.file = file;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deliver(Reminder reminder) {
+        String line = reminder.remindAt() + "\t" + reminder.taskId() + "\t" + reminder.userId() + "\t"
+                + reminder.deadline() + "\t" + reminder.title() + System.lineSeparator();
+        try {
+            Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Failed to write reminder for task {} to {}", reminder.taskId(), file, e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.emobile.springtodo.core.service.reminder;
+
+import java.util.function.Consumer;
+
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket<T>[] buckets;
+    private long currentTime;
+    private HierarchicalTimingWheel<T> overflowWheel;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Tick must be positive and the wheel must have at least two buckets");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.interval = tickMillis * wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        @SuppressWarnings("unchecked")
+        Bucket<T>[] buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.buckets = buckets;
+    }
+
+    public synchronized Timeout<T> schedule(long expirationMillis, T payload) {
+        Timeout<T> timeout = new Timeout<>(this, expirationMillis, payload);
+        if (!place(timeout)) {
+            return null;
+        }
+        size++;
+        return timeout;
+    }
+
+    public synchronized void advanceTo(long nowMillis, Consumer<T> expired) {
+        Consumer<Timeout<T>> reinsert = timeout -> {
+            if (!place(timeout)) {
+                fire(timeout, expired);
+            }
+        };
+        while (nowMillis >= currentTime + tickMillis) {
+            buckets[index(currentTime)].drain(timeout -> fire(timeout, expired));
+            currentTime += tickMillis;
+            if (overflowWheel != null && currentTime % interval == 0) {
+                overflowWheel.advance(currentTime, reinsert);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    private boolean place(Timeout<T> timeout) {
+        long expiration = timeout.expiration;
+        if (expiration < currentTime) {
+            return false;
+        }
+        if (expiration < currentTime + interval) {
+            buckets[index(expiration)].add(timeout);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(interval, wheelSize, currentTime);
+        }
+        return overflowWheel.place(timeout);
+    }
+
+    private void advance(long time, Consumer<Timeout<T>> reinsert) {
+        currentTime = time - Math.floorMod(time, tickMillis);
+        if (overflowWheel != null && currentTime % interval == 0) {
+            overflowWheel.advance(currentTime, reinsert);
+        }
+        buckets[index(currentTime)].drain(reinsert);
+    }
+
+    private void fire(Timeout<T> timeout, Consumer<T> expired) {
+        size--;
+        expired.accept(timeout.payload);
+    }
+
+    private int index(long time) {
+        return (int) Math.floorMod(Math.floorDiv(time, tickMillis), (long) wheelSize);
+    }
+
+    public static final class Timeout<T> {
+
+        private final HierarchicalTimingWheel<T> wheel;
+        private final long expiration;
+        private final T payload;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, long expiration, T payload) {
+            this.wheel = wheel;
+            this.expiration = expiration;
+            this.payload = payload;
+        }
+
+        public long getExpiration() {
+            return expiration;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private final Timeout<T> head = new Timeout<>(null, 0, null);
+
+        private Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private void drain(Consumer<Timeout<T>> consumer) {
+            Timeout<T> timeout = head.next;
+            while (timeout != head) {
+                Timeout<T> next = timeout.next;
+                remove(timeout);
+                consumer.accept(timeout);
+                timeout = next;
+            }
+        }
+    }
+}
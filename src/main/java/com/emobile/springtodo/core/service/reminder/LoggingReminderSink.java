@@ -0,0 +1,13 @@
+package com.emobile.springtodo.core.service.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void deliver(Reminder reminder) {
+        log.info("Reminder: task {} of user {} \"{}\" is due at {}",
+                reminder.taskId(), reminder.userId(), reminder.title(), reminder.deadline());
+    }
+}
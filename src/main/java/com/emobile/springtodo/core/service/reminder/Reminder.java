@@ -0,0 +1,6 @@
+package com.emobile.springtodo.core.service.reminder;
+
+import java.sql.Timestamp;
+
+public record Reminder(Long taskId, Long userId, String title, Timestamp deadline, Timestamp remindAt) {
+}
@@ -0,0 +1,145 @@
+package com.emobile.springtodo.core.service.reminder;
+
+import com.emobile.springtodo.core.config.properties.AppReminderProperties;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class ReminderService {
+
+    private final TaskJDBCRepository taskRepository;
+    private final ReminderSink reminderSink;
+    private final AppReminderProperties reminderProperties;
+    private final HierarchicalTimingWheel<Reminder> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<Reminder>> scheduled = new ConcurrentHashMap<>();
+    private volatile long loadedUntil = Long.MIN_VALUE;
+    private ScheduledExecutorService ticker;
+
+    public ReminderService(TaskJDBCRepository taskRepository,
+                           ReminderSink reminderSink,
+                           AppReminderProperties reminderProperties) {
+        this.taskRepository = taskRepository;
+        this.reminderSink = reminderSink;
+        this.reminderProperties = reminderProperties;
+        this.wheel = new HierarchicalTimingWheel<>(
+                reminderProperties.getTick().toMillis(), reminderProperties.getWheelSize(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!reminderProperties.isEnable()) {
+            return;
+        }
+        long tickMillis = reminderProperties.getTick().toMillis();
+        long topUpMillis = Math.max(tickMillis, reminderProperties.getLookahead().toMillis() / 2);
+        ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("reminder-"));
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        ticker.scheduleWithFixedDelay(this::rehydrate, 0, topUpMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    public void schedule(TaskDto task) {
+        schedule(task, true);
+    }
+
+    public void reschedule(TaskDto task) {
+        schedule(task, false);
+    }
+
+    public void cancel(Long taskId) {
+        HierarchicalTimingWheel.Timeout<Reminder> timeout = scheduled.remove(taskId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    void tick() {
+        try {
+            List<Reminder> due = new ArrayList<>();
+            wheel.advanceTo(System.currentTimeMillis(), due::add);
+            due.forEach(this::deliver);
+        } catch (RuntimeException e) {
+            log.error("Reminder tick failed", e);
+        }
+    }
+
+    void rehydrate() {
+        long from = Math.max(loadedUntil, System.currentTimeMillis() + reminderProperties.getLead().toMillis());
+        long until = System.currentTimeMillis() + reminderProperties.getLead().toMillis()
+                + reminderProperties.getLookahead().toMillis();
+        loadedUntil = until;
+        try {
+            taskRepository.streamOpenByDeadline(new Timestamp(from), new Timestamp(until), task ->
+                    schedule(task.getId(), task.getUserId(), task.getTitle(), task.getDeadline(), false));
+        } catch (DataAccessException e) {
+            log.warn("Failed to load upcoming reminders: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(TaskDto task, boolean deliverIfDue) {
+        if (task.getStatus() == TaskStatus.DONE) {
+            cancel(task.getId());
+            return;
+        }
+        schedule(task.getId(), task.getUserId(), task.getTitle(), task.getDeadline(), deliverIfDue);
+    }
+
+    private void schedule(Long taskId, Long userId, String title, Timestamp deadline, boolean deliverIfDue) {
+        if (!reminderProperties.isEnable()) {
+            return;
+        }
+        if (deadline == null || deadline.getTime() > loadedUntil) {
+            cancel(taskId);
+            return;
+        }
+        long remindAt = deadline.getTime() - reminderProperties.getLead().toMillis();
+        Reminder reminder = new Reminder(taskId, userId, title, deadline, new Timestamp(remindAt));
+        HierarchicalTimingWheel.Timeout<Reminder> timeout = wheel.schedule(remindAt, reminder);
+        HierarchicalTimingWheel.Timeout<Reminder> previous = timeout != null
+                ? scheduled.put(taskId, timeout)
+                : scheduled.remove(taskId);
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (timeout == null && deliverIfDue && deadline.getTime() > System.currentTimeMillis()) {
+            deliver(reminder);
+        }
+    }
+
+    private void deliver(Reminder reminder) {
+        scheduled.computeIfPresent(reminder.taskId(), (taskId, timeout) -> timeout.getPayload() == reminder ? null : timeout);
+        try {
+            reminderSink.deliver(reminder);
+        } catch (RuntimeException e) {
+            log.error("Failed to deliver reminder for task {}", reminder.taskId(), e);
+        }
+    }
+}
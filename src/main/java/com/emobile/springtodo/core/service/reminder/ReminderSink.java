@@ -0,0 +1,6 @@
+package com.emobile.springtodo.core.service.reminder;
+
+public interface ReminderSink {
+
+    void deliver(Reminder reminder);
+}
@@ -0,0 +1,311 @@
+package com.emobile.springtodo.core.service.writebehind;
+
+import com.emobile.springtodo.core.config.properties.AppCacheProperties;
+import com.emobile.springtodo.core.config.properties.AppWriteBehindProperties;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.exception.AccessRightsException;
+import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class TaskTransitionWriteBehind {
+
+    private static final Duration FAILURE_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final TaskJDBCRepository taskRepository;
+    private final AppWriteBehindProperties writeBehindProperties;
+    private final CacheManager cacheManager;
+    private final UserTaskCacheKeys userTaskCacheKeys;
+    private final Queue<PendingTransition> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Map<Long, Task> pendingByTaskId = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final List<PendingTransition> batch = new ArrayList<>();
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+    private final Counter backpressureCounter;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TaskTransitionWriteBehind(TaskJDBCRepository taskRepository,
+                                     AppWriteBehindProperties writeBehindProperties,
+                                     CacheManager cacheManager,
+                                     UserTaskCacheKeys userTaskCacheKeys,
+                                     MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.writeBehindProperties = writeBehindProperties;
+        this.cacheManager = cacheManager;
+        this.userTaskCacheKeys = userTaskCacheKeys;
+        this.flushTimer = meterRegistry.timer("tasks.write_behind.flush");
+        this.batchSizeSummary = meterRegistry.summary("tasks.write_behind.batch.size");
+        this.rejectedCounter = meterRegistry.counter("tasks.write_behind.rejected.total");
+        this.backpressureCounter = meterRegistry.counter("tasks.write_behind.backpressure.total");
+        meterRegistry.gauge("tasks.write_behind.queue.depth", depth);
+    }
+
+    public boolean isEnabled() {
+        return writeBehindProperties.isEnable();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = new CustomizableThreadFactory("write-behind-").newThread(this::runFlusher);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            flusher.join(SHUTDOWN_TIMEOUT.toMillis());
+        }
+        try {
+            int flushed;
+            do {
+                flushed = flushBatch();
+            } while (flushed > 0);
+        } catch (RuntimeException e) {
+            log.error("Lost {} queued task transitions on shutdown", depth.get(), e);
+        }
+    }
+
+    public Task transition(Long id, Long userId, TaskStatus status, Timestamp endDate, Function<Long, Task> loader)
+            throws AccessRightsException {
+        reserve();
+        CompletableFuture<Void> flushed = writeBehindProperties.getDurability() == AppWriteBehindProperties.Durability.FLUSHED
+                ? new CompletableFuture<>()
+                : null;
+        Task next;
+        try {
+            next = pendingByTaskId.compute(id, (taskId, pending) -> {
+                Task current = pending != null ? pending : loader.apply(taskId);
+                if (!current.getUserId().equals(userId)) {
+                    throw new AccessRightsException("Ошибка прав доступа пользователя!", Timestamp.from(Instant.now()));
+                }
+                Task snapshot = Task.builder()
+                        .id(current.getId())
+                        .userId(current.getUserId())
+                        .title(current.getTitle())
+                        .description(current.getDescription())
+                        .status(status)
+                        .deadline(current.getDeadline())
+                        .createdAt(current.getCreatedAt())
+                        .endData(endDate != null ? endDate : current.getEndData())
+                        .version(current.getVersion() + 1)
+                        .build();
+                queue.offer(new PendingTransition(snapshot, flushed));
+                return snapshot;
+            });
+        } catch (RuntimeException e) {
+            depth.decrementAndGet();
+            throw e;
+        }
+        if (depth.get() >= writeBehindProperties.getBatchSize() && flusher != null) {
+            LockSupport.unpark(flusher);
+        }
+        if (flushed != null) {
+            awaitFlushed(flushed);
+        }
+        return next;
+    }
+
+    public void flushTask(Long taskId) {
+        while (pendingByTaskId.containsKey(taskId)) {
+            flushBatch();
+        }
+    }
+
+    public int flushBatch() {
+        flushLock.lock();
+        try {
+            return writeBatch();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    private void runFlusher() {
+        long intervalNanos = writeBehindProperties.getFlushInterval().toNanos();
+        while (running) {
+            if (depth.get() < writeBehindProperties.getBatchSize()) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+            try {
+                flushBatch();
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} queued task transitions: {}", depth.get(), e.getMessage());
+                LockSupport.parkNanos(this, FAILURE_BACKOFF.toNanos());
+            }
+        }
+    }
+
+    private void reserve() {
+        int capacity = writeBehindProperties.getCapacity();
+        while (true) {
+            int current = depth.get();
+            if (current < capacity) {
+                if (depth.compareAndSet(current, current + 1)) {
+                    return;
+                }
+                continue;
+            }
+            backpressureCounter.increment();
+            if (flushBatch() == 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void awaitFlushed(CompletableFuture<Void> flushed) {
+        long intervalNanos = writeBehindProperties.getFlushInterval().toNanos();
+        while (!flushed.isDone()) {
+            if (flushLock.tryLock()) {
+                try {
+                    writeBatch();
+                } catch (RuntimeException e) {
+                    log.debug("Group commit led by a waiting caller failed: {}", e.getMessage());
+                } finally {
+                    flushLock.unlock();
+                }
+            } else {
+                try {
+                    flushed.get(intervalNanos, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    log.trace("Still waiting for the task transition to be flushed");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the task transition to be flushed", e);
+                }
+            }
+        }
+        try {
+            flushed.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private int writeBatch() {
+        if (batch.isEmpty()) {
+            int batchSize = writeBehindProperties.getBatchSize();
+            PendingTransition next;
+            while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (PendingTransition transition : batch) {
+            tasks.add(transition.task());
+        }
+        long startedAt = System.nanoTime();
+        Set<Task> applied = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            applied.addAll(taskRepository.applyTransitions(tasks, writeBehindProperties.isSynchronousCommit()));
+        } catch (RuntimeException e) {
+            if (writeBehindProperties.getDurability() == AppWriteBehindProperties.Durability.FLUSHED) {
+                release(e, Set.of());
+            }
+            throw e;
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        batchSizeSummary.record(tasks.size());
+        evictFlushed(tasks, applied);
+        release(null, applied);
+        return tasks.size();
+    }
+
+    private void evictFlushed(List<Task> tasks, Set<Task> applied) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        Cache taskById = cacheManager.getCache(AppCacheProperties.CacheNames.TASK_BY_ID);
+        for (Task task : tasks) {
+            userIds.add(task.getUserId());
+            if (!applied.contains(task)) {
+                rejectedCounter.increment();
+                log.warn("Task {} of user {} was not moved to {}: the row no longer matches",
+                        task.getId(), task.getUserId(), task.getStatus());
+                if (taskById != null) {
+                    taskById.evict(task.getId());
+                }
+            }
+        }
+        userTaskCacheKeys.evict(userIds);
+    }
+
+    private void release(RuntimeException failure, Set<Task> applied) {
+        for (PendingTransition transition : batch) {
+            Task task = transition.task();
+            pendingByTaskId.remove(task.getId(), task);
+            if (transition.flushed() != null) {
+                if (failure != null) {
+                    transition.flushed().completeExceptionally(failure);
+                } else if (applied.contains(task)) {
+                    transition.flushed().complete(null);
+                } else {
+                    transition.flushed().completeExceptionally(new ObjectNotFoundException(
+                            "Task with id: " + task.getId() + " not found", Timestamp.from(Instant.now())));
+                }
+            }
+        }
+        depth.addAndGet(-batch.size());
+        batch.clear();
+    }
+
+    private record PendingTransition(Task task, CompletableFuture<Void> flushed) {
+    }
+}
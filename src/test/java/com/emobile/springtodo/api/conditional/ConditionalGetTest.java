@@ -0,0 +1,129 @@
+package com.emobile.springtodo.api.conditional;
+
+import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.entity.dto.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConditionalGetTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConditionalGet conditionalGet;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        conditionalGet = new ConditionalGet(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Условный GET - совпавший ETag даёт 304 и учитывается в доле 304")
+    void notModified_MatchingETag_Returns304() {
+        MockHttpServletResponse matchedResponse = new MockHttpServletResponse();
+        MockHttpServletResponse changedResponse = new MockHttpServletResponse();
+
+        assertTrue(conditionalGet.notModified(request("W/\"task-1-3\"", matchedResponse), "task", "W/\"task-1-3\""));
+        assertFalse(conditionalGet.notModified(request("W/\"task-1-2\"", changedResponse), "task", "W/\"task-1-3\""));
+
+        assertEquals(304, matchedResponse.getStatus());
+        assertEquals("W/\"task-1-3\"", changedResponse.getHeader("ETag"));
+        assertEquals(0.5, meterRegistry.get("http.etag.not_modified.ratio").gauge().value());
+        assertEquals(1, meterRegistry.get("http.etag.requests").tag("result", "not_modified").counter().count());
+    }
+
+    @Test
+    @DisplayName("Условный GET - ETag списка меняется вместе с поколением кэша пользователя и страницей")
+    void taskListETag_ChangesWithGenerationAndPage() {
+        String etag = ConditionalGet.taskListETag("1@a1", "10,0");
+
+        assertEquals(etag, ConditionalGet.taskListETag("1@a1", "10,0"));
+        assertNotEquals(etag, ConditionalGet.taskListETag("1@b2", "10,0"));
+        assertNotEquals(etag, ConditionalGet.taskListETag("2@a1", "10,0"));
+        assertNotEquals(etag, ConditionalGet.taskListETag("1@a1", "10,10"));
+        assertNotEquals(etag, ConditionalGet.taskListETag("1@a1", "10,after=abc"));
+    }
+
+    @Test
+    @DisplayName("Условный GET - ETag JSON-представления не подходит для запроса CBOR")
+    void notModified_JsonETagOnCborRequest_Returns200() {
+        MockHttpServletResponse cborResponse = new MockHttpServletResponse();
+        MockHttpServletResponse smileResponse = new MockHttpServletResponse();
+
+        assertFalse(conditionalGet.notModified(
+                request("W/\"task-1-3\"", "application/cbor", cborResponse), "task", "W/\"task-1-3\""));
+        assertTrue(conditionalGet.notModified(
+                request("W/\"task-1-3-x-jackson-smile\"", "application/x-jackson-smile, */*;q=0.5", smileResponse),
+                "task", "W/\"task-1-3\""));
+
+        assertEquals("W/\"task-1-3-cbor\"", cborResponse.getHeader("ETag"));
+        assertEquals(304, smileResponse.getStatus());
+        assertEquals(List.of("Accept"), cborResponse.getHeaders("Vary"));
+        assertEquals(List.of("Accept"), smileResponse.getHeaders("Vary"));
+    }
+
+    @Test
+    @DisplayName("Условный GET - запрос без Accept и с */* получает ETag JSON-представления")
+    void forRepresentation_DefaultsToJson() {
+        assertEquals("W/\"task-1-3\"", ConditionalGet.forRepresentation("W/\"task-1-3\"", null));
+        assertEquals("W/\"task-1-3\"", ConditionalGet.forRepresentation("W/\"task-1-3\"", "*/*"));
+        assertEquals("W/\"task-1-3\"", ConditionalGet.forRepresentation("W/\"task-1-3\"", "application/cbor;q=0.5, application/json"));
+        assertEquals("W/\"task-1-3-cbor\"", ConditionalGet.forRepresentation("W/\"task-1-3\"", "application/cbor;q=0.9, application/json;q=0.1"));
+    }
+
+    @Test
+    @DisplayName("Условный GET - ETag пользователя меняется вместе с его данными")
+    void userETag_ChangesWithUserData() {
+        String etag = ConditionalGet.userETag(user(1L, "dasha", "dasha@example.com"));
+
+        assertEquals(etag, ConditionalGet.userETag(user(1L, "dasha", "dasha@example.com")));
+        assertNotEquals(etag, ConditionalGet.userETag(user(1L, "dasha", "dasha@example.org")));
+        assertNotEquals(etag, ConditionalGet.userETag(user(1L, "masha", "dasha@example.com")));
+        assertNotEquals(etag, ConditionalGet.userETag(user(2L, "dasha", "dasha@example.com")));
+    }
+
+    @Test
+    @DisplayName("Условный GET - ETag слабые, чтобы Tomcat мог сжимать ответ")
+    void etags_AreWeak() {
+        assertTrue(ConditionalGet.taskETag(task(1L, 3L)).startsWith("W/\""));
+        assertTrue(ConditionalGet.taskListETag("1@a1", "10,0").startsWith("W/\""));
+        assertTrue(ConditionalGet.userETag(user(1L, "dasha", "dasha@example.com")).startsWith("W/\""));
+        assertEquals("W/\"task-1-3-cbor\"", ConditionalGet.forRepresentation(ConditionalGet.taskETag(task(1L, 3L)), "application/cbor"));
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        return request(ifNoneMatch, null, response);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, String accept, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/todo/task/1");
+        request.addHeader("If-None-Match", ifNoneMatch);
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private static UserDto user(Long id, String username, String email) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+
+    private static TaskDto task(Long id, Long version) {
+        TaskDto task = new TaskDto();
+        task.setId(id);
+        task.setVersion(version);
+        return task;
+    }
+}
@@ -0,0 +1,144 @@
+package com.emobile.springtodo.api.controller;
+
+import com.emobile.springtodo.api.conditional.ConditionalGet;
+import com.emobile.springtodo.api.mapper.ResponseMapperImpl;
+import com.emobile.springtodo.api.stream.TaskEventStreams;
+import com.emobile.springtodo.core.config.MessageConvertersConfig;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.service.TaskService;
+import com.emobile.springtodo.core.service.UserService;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = TaskControllerCompressionTest.WebConfig.class,
+        properties = "spring.config.additional-location=file:src/main/resources/application.yaml"
+)
+public class TaskControllerCompressionTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private TaskService taskService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private TaskEventStreams taskEventStreams;
+
+    @MockBean
+    private UserTaskCacheKeys userTaskCacheKeys;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Configuration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class
+    })
+    @Import({TaskController.class, ResponseMapperImpl.class, MessageConvertersConfig.class})
+    static class WebConfig {
+
+        @Bean
+        ConditionalGet conditionalGet() {
+            return new ConditionalGet(new SimpleMeterRegistry());
+        }
+    }
+
+    @Test
+    @DisplayName("Сжатие ответа - большая страница задач отдаётся в gzip вместе с ETag")
+    void getTasks_LargePage_Gzipped() throws Exception {
+        Long userId = 1L;
+        when(userTaskCacheKeys.namespace(userId)).thenReturn("1@a1");
+        when(taskService.getTasksByUser(userId, PAGE_SIZE, 0)).thenReturn(tasks(userId));
+        when(taskService.getTaskCountByUser(userId)).thenReturn((long) PAGE_SIZE);
+
+        HttpResponse<InputStream> response = client.send(
+                HttpRequest.newBuilder(tasksUri(userId)).header("Accept-Encoding", "gzip").build(),
+                HttpResponse.BodyHandlers.ofInputStream()
+        );
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+        assertTrue(etag.startsWith("W/"));
+
+        JsonNode body;
+        try (InputStream in = new GZIPInputStream(response.body())) {
+            body = objectMapper.readTree(in);
+        }
+        assertEquals(PAGE_SIZE, body.path("data").path("tasks").size());
+
+        HttpResponse<Void> revalidated = client.send(
+                HttpRequest.newBuilder(tasksUri(userId))
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", etag)
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+        assertEquals(304, revalidated.statusCode());
+    }
+
+    private URI tasksUri(Long userId) {
+        return URI.create("http://localhost:" + port + "/api/v1/todo/task/user/" + userId + "?limit=" + PAGE_SIZE);
+    }
+
+    private List<TaskDto> tasks(Long userId) {
+        Timestamp timestamp = Timestamp.valueOf("2026-10-18 12:00:00");
+        List<TaskDto> tasks = new ArrayList<>(PAGE_SIZE);
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            TaskDto task = new TaskDto();
+            task.setId(i);
+            task.setUserId(userId);
+            task.setTitle("Task " + i);
+            task.setDescription("Description of task " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setDeadline(timestamp);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -1,37 +1,69 @@
 package com.emobile.springtodo.api.controller;
 
+import com.emobile.springtodo.api.conditional.ConditionalGet;
+import com.emobile.springtodo.api.input.CreateTaskBatchRequest;
 import com.emobile.springtodo.api.input.CreateTaskRequest;
+import com.emobile.springtodo.api.input.UpdateTaskRequest;
 import com.emobile.springtodo.api.mapper.ResponseMapper;
 import com.emobile.springtodo.api.output.task.ListTaskResponse;
+import com.emobile.springtodo.api.output.task.SearchTaskResponse;
 import com.emobile.springtodo.api.output.task.TaskResponse;
+import com.emobile.springtodo.api.output.task.TaskStatsResponse;
+import com.emobile.springtodo.api.stream.TaskEventStreams;
 import com.emobile.springtodo.core.entity.db.TaskStatus;
 import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.entity.dto.TaskSearchDto;
+import com.emobile.springtodo.core.entity.dto.TaskStatsDto;
 import com.emobile.springtodo.core.exception.AccessRightsException;
+import com.emobile.springtodo.core.exception.InvalidCursorException;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.exception.TooManyIdsException;
+import com.emobile.springtodo.core.exception.TooManySubscribersException;
+import com.emobile.springtodo.core.exception.VersionConflictException;
 import com.emobile.springtodo.core.service.TaskService;
+import com.emobile.springtodo.core.service.UserService;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.pagination.TaskFilter;
+import com.emobile.springtodo.core.service.pagination.TaskSort;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
@@ -47,16 +79,36 @@ public class TaskControllerTest {
     @MockBean
     private ResponseMapper responseMapper;
 
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private TaskEventStreams taskEventStreams;
+
+    @MockBean
+    private UserTaskCacheKeys userTaskCacheKeys;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @TestConfiguration
+    static class ConditionalGetConfig {
+
+        @Bean
+        ConditionalGet conditionalGet() {
+            return new ConditionalGet(new SimpleMeterRegistry());
+        }
+    }
+
     SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.S");
     Timestamp timestamp;
+    Timestamp deadline;
 
     @BeforeEach
     void setUp() throws ParseException {
         sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
         timestamp = new Timestamp(sdf.parse("2026-03-15 00:00:00.0").getTime());
+        deadline = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS));
     }
 
     @Test
@@ -96,6 +148,33 @@ public class TaskControllerTest {
         JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
     }
 
+    @Test
+    @DisplayName("Получение задачи по ID - ответ в CBOR по заголовку Accept")
+    void getTask_Cbor() throws Exception {
+        Long taskId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(taskId);
+        taskDto.setVersion(0L);
+
+        TaskResponse taskResponse = new TaskResponse();
+        taskResponse.setId(taskId);
+        taskResponse.setTitle("Test Task");
+        taskResponse.setStatus(TaskStatus.TODO);
+
+        when(taskService.getTaskById(taskId)).thenReturn(taskDto);
+        when(responseMapper.taskToResponse(taskDto)).thenReturn(taskResponse);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/todo/task/{id}", taskId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, result.getResponse().getContentType());
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Test Task", body.path("data").path("title").asText());
+        assertEquals("TODO", body.path("data").path("status").asText());
+    }
+
     @Test
     @DisplayName("Получение задачи по ID - задача не найдена")
     void getTask_NotFound() throws Exception {
@@ -112,6 +191,60 @@ public class TaskControllerTest {
         JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
     }
 
+    @Test
+    @DisplayName("Получение задачи по ID - задача не изменилась")
+    void getTask_NotModified() throws Exception {
+        Long taskId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(taskId);
+        taskDto.setVersion(3L);
+
+        when(taskService.getTaskById(taskId)).thenReturn(taskDto);
+
+        mockMvc.perform(get("/api/v1/todo/task/{id}", taskId)
+                        .header("If-None-Match", "W/\"task-1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"task-1-3\""));
+
+        verify(responseMapper, never()).taskToResponse(any());
+    }
+
+    @Test
+    @DisplayName("Получение списка задач пользователя - список не изменился")
+    void getTasks_NotModified() throws Exception {
+        Long userId = 1L;
+        String etag = ConditionalGet.taskListETag("1@a1", "10,0");
+
+        when(userTaskCacheKeys.namespace(userId)).thenReturn("1@a1");
+
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}", userId)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(taskService, never()).getTasksByUser(eq(userId), anyInt(), anyInt());
+        verify(taskService, never()).getTaskCountByUser(userId);
+    }
+
+    @Test
+    @DisplayName("Получение списка задач пользователя - новое поколение кэша даёт новый ETag")
+    void getTasks_GenerationRotated_Returns200() throws Exception {
+        Long userId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(1L);
+
+        when(userTaskCacheKeys.namespace(userId)).thenReturn("1@b2");
+        when(taskService.getTasksByUser(userId, 10, 0)).thenReturn(List.of(taskDto));
+        when(taskService.getTaskCountByUser(userId)).thenReturn(1L);
+
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}", userId)
+                        .header("If-None-Match", ConditionalGet.taskListETag("1@a1", "10,0")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ConditionalGet.taskListETag("1@b2", "10,0")));
+
+        verify(taskService).getTasksByUser(userId, 10, 0);
+    }
+
     @Test
     @DisplayName("Получение списка задач пользователя - успешный сценарий")
     void getTasks_Success() throws Exception {
@@ -176,6 +309,258 @@ public class TaskControllerTest {
         JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
     }
 
+    @Test
+    @DisplayName("Получение списка задач пользователя по курсору - неверный курсор")
+    void getTasksAfterCursor_InvalidCursor() throws Exception {
+        Long userId = 1L;
+        int limit = 10;
+        when(taskService.getTasksByUser(userId, limit, "bad")).thenThrow(new InvalidCursorException("Cursor: bad is not valid", timestamp));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/todo/task/user/{userId}", userId)
+                        .param("limit", String.valueOf(limit))
+                        .param("after", "bad")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        String formattedTimestamp = sdf.format(timestamp);
+        String expectedJson = "{\"data\":{\"status\":400,\"message\":\"Cursor: bad is not valid\",\"timestamp\":\"" + formattedTimestamp + "\"},\"status\":\"BAD_REQUEST\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+        verify(taskService, never()).getTasksByUser(eq(userId), eq(limit), anyInt());
+    }
+
+    @Test
+    @DisplayName("Полнотекстовый поиск задач пользователя - успешный сценарий")
+    void searchTasks_Success() throws Exception {
+        Long userId = 1L;
+        int limit = 10;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(1L);
+        TaskSearchDto search = new TaskSearchDto(List.of(taskDto), null);
+        TaskResponse taskResponse = new TaskResponse();
+        taskResponse.setId(1L);
+        taskResponse.setTitle("Quarterly report");
+
+        when(taskService.searchTasksByUser(userId, "report", limit, null)).thenReturn(search);
+        when(responseMapper.taskSearchToResponse(search, limit))
+                .thenReturn(new SearchTaskResponse(List.of(taskResponse), limit, null));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/todo/task/user/{userId}/search", userId)
+                        .param("q", "report")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedJson = "{\"data\":{\"tasks\":[{\"id\":1,\"title\":\"Quarterly report\"}],\"limit\":10},\"status\":\"OK\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+    }
+
+    @Test
+    @DisplayName("Полнотекстовый поиск задач пользователя - не передан запрос")
+    void searchTasks_MissingQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}/search", 1L)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Получение списка задач пользователя с фильтрами и сортировкой - успешный сценарий")
+    void getTasksFiltered_Success() throws Exception {
+        Long userId = 1L;
+        int limit = 10;
+        int offset = 0;
+        TaskFilter filter = new TaskFilter(TaskStatus.IN_PROGRESS,
+                Timestamp.valueOf("2026-03-16 00:00:00"), Timestamp.valueOf("2026-03-23 00:00:00"),
+                TaskSort.DEADLINE, Sort.Direction.ASC);
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(1L);
+        TaskResponse taskResponse = new TaskResponse();
+        taskResponse.setId(1L);
+
+        when(taskService.getTasksByUser(userId, filter, limit, offset)).thenReturn(List.of(taskDto));
+        when(taskService.getTaskCountByUser(userId, filter)).thenReturn(1L);
+        when(responseMapper.listTaskToResponse(List.of(taskDto), 1L, limit, offset))
+                .thenReturn(new ListTaskResponse(List.of(taskResponse), 1L, limit, offset));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/todo/task/user/{userId}", userId)
+                        .param("status", "IN_PROGRESS")
+                        .param("deadlineFrom", "2026-03-16T00:00:00")
+                        .param("deadlineTo", "2026-03-23T00:00:00")
+                        .param("sort", "DEADLINE")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedJson = "{\"data\":{\"tasks\":[{\"id\":1}],\"total\":1,\"limit\":10,\"offset\":0},\"status\":\"OK\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+        verify(taskService, never()).getTasksByUser(eq(userId), eq(limit), anyInt());
+    }
+
+    @Test
+    @DisplayName("Получение списка задач пользователя с фильтрами - курсор не поддерживается")
+    void getTasksFiltered_WithCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}", 1L)
+                        .param("status", "TODO")
+                        .param("after", "dDo1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Получение задач по списку ID - успешный сценарий")
+    void getTasksByIds_Success() throws Exception {
+        TaskDto first = new TaskDto();
+        first.setId(3L);
+        TaskDto second = new TaskDto();
+        second.setId(1L);
+        TaskResponse firstResponse = new TaskResponse();
+        firstResponse.setId(3L);
+        TaskResponse secondResponse = new TaskResponse();
+        secondResponse.setId(1L);
+
+        when(taskService.getTasksByIds(List.of(3L, 1L))).thenReturn(List.of(first, second));
+        when(responseMapper.tasksToResponse(List.of(first, second))).thenReturn(List.of(firstResponse, secondResponse));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/todo/task")
+                        .param("ids", "3,1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedJson = "{\"data\":[{\"id\":3},{\"id\":1}],\"status\":\"OK\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+    }
+
+    @Test
+    @DisplayName("Получение задач по списку ID - слишком много ID")
+    void getTasksByIds_TooManyIds() throws Exception {
+        when(taskService.getTasksByIds(anyList()))
+                .thenThrow(new TooManyIdsException("No more than 500 tasks can be requested at once", timestamp));
+
+        mockMvc.perform(get("/api/v1/todo/task")
+                        .param("ids", "1,2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Получение статистики задач пользователя - успешный сценарий")
+    void getTaskStats_Success() throws Exception {
+        Long userId = 1L;
+        TaskStatsDto stats = new TaskStatsDto(userId, 6L, 3L, 2L, 1L, 2L);
+        TaskStatsResponse statsResponse = new TaskStatsResponse();
+        statsResponse.setUserId(userId);
+        statsResponse.setTotal(6L);
+        statsResponse.setTodo(3L);
+        statsResponse.setInProgress(2L);
+        statsResponse.setDone(1L);
+        statsResponse.setOverdue(2L);
+
+        when(taskService.getTaskStatsByUser(userId)).thenReturn(stats);
+        when(responseMapper.taskStatsToResponse(stats)).thenReturn(statsResponse);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/todo/task/user/{userId}/stats", userId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedJson = "{\"data\":{\"userId\":1,\"total\":6,\"todo\":3,\"inProgress\":2,\"done\":1,\"overdue\":2},\"status\":\"OK\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+    }
+
+    @Test
+    @DisplayName("Экспорт задач пользователя в NDJSON - успешный сценарий")
+    void exportTasks_Success() throws Exception {
+        Long userId = 1L;
+        TaskDto first = new TaskDto();
+        first.setId(1L);
+        TaskDto second = new TaskDto();
+        second.setId(2L);
+
+        TaskResponse firstResponse = new TaskResponse();
+        firstResponse.setId(1L);
+        firstResponse.setUserId(userId);
+        TaskResponse secondResponse = new TaskResponse();
+        secondResponse.setId(2L);
+        secondResponse.setUserId(userId);
+
+        doAnswer(invocation -> {
+            Consumer<TaskDto> consumer = invocation.getArgument(1);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(taskService).exportTasksByUser(eq(userId), any());
+        when(responseMapper.taskToResponse(first)).thenReturn(firstResponse);
+        when(responseMapper.taskToResponse(second)).thenReturn(secondResponse);
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/todo/task/user/{userId}/export", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        JSONAssert.assertEquals("{\"id\":1,\"userId\":1}", lines[0], false);
+        JSONAssert.assertEquals("{\"id\":2,\"userId\":1}", lines[1], false);
+        verify(userService).findUserById(userId);
+    }
+
+    @Test
+    @DisplayName("Подписка на события задач пользователя - успешный сценарий")
+    void streamTaskEvents_Success() throws Exception {
+        Long userId = 1L;
+        SseEmitter emitter = new SseEmitter();
+        when(taskEventStreams.subscribe(userId)).thenReturn(emitter);
+
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}/events", userId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(userService).findUserById(userId);
+        verify(taskEventStreams).subscribe(userId);
+    }
+
+    @Test
+    @DisplayName("Подписка на события задач пользователя - пользователь не найден")
+    void streamTaskEvents_UserNotFound() throws Exception {
+        Long userId = 1L;
+        when(userService.findUserById(userId)).thenThrow(new ObjectNotFoundException("User with id: 1 not found", timestamp));
+
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}/events", userId))
+                .andExpect(status().isNotFound());
+
+        verify(taskEventStreams, never()).subscribe(any());
+    }
+
+    @Test
+    @DisplayName("Подписка на события задач пользователя - превышен лимит подписчиков")
+    void streamTaskEvents_TooManySubscribers() throws Exception {
+        Long userId = 1L;
+        when(taskEventStreams.subscribe(userId))
+                .thenThrow(new TooManySubscribersException("Too many task event subscribers, try again later", timestamp));
+
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}/events", userId))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("Экспорт задач пользователя в NDJSON - пользователь не найден")
+    void exportTasks_UserNotFound() throws Exception {
+        Long userId = 1L;
+        when(userService.findUserById(userId)).thenThrow(new ObjectNotFoundException("User with id: 1 not found", timestamp));
+
+        mockMvc.perform(get("/api/v1/todo/task/user/{userId}/export", userId))
+                .andExpect(status().isNotFound());
+
+        verify(taskService, never()).exportTasksByUser(any(), any());
+    }
+
     @Test
     @DisplayName("Создание задачи - успешный сценарий")
     void createTask_Success() throws Exception {
@@ -183,7 +568,7 @@ public class TaskControllerTest {
         request.setUserId(1L);
         request.setTitle("Test Task");
         request.setDescription("Test Description");
-        request.setDeadline(timestamp);
+        request.setDeadline(deadline);
 
         TaskDto taskDto = new TaskDto();
         taskDto.setId(1L);
@@ -215,10 +600,122 @@ public class TaskControllerTest {
                 .andReturn();
 
         String formattedTimestamp = sdf.format(timestamp);
-        String expectedJson = "{\"data\":{\"id\":1,\"userId\":1,\"title\":\"Test Task\",\"description\":\"Test Description\",\"status\":\"TODO\",\"start\":\"" + formattedTimestamp + "\",\"deadline\":\"" + formattedTimestamp + "\",\"end\":\"" + formattedTimestamp + "\"},\"status\":\"CREATED\"}";
+        String expectedJson = "{\"data\":{\"id\":1,\"userId\":1,\"title\":\"Test Task\",\"description\":\"Test Description\",\"status\":\"TODO\",\"start\":\"" + formattedTimestamp + "\",\"deadline\":\"" + sdf.format(deadline) + "\",\"end\":\"" + formattedTimestamp + "\"},\"status\":\"CREATED\"}";
         JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
     }
 
+    @Test
+    @DisplayName("Пакетное создание задач - успешный сценарий")
+    void createTasks_Success() throws Exception {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setUserId(1L);
+        request.setTitle("Test Task");
+        request.setDescription("Test Description");
+        request.setDeadline(deadline);
+        CreateTaskBatchRequest batchRequest = new CreateTaskBatchRequest();
+        batchRequest.setTasks(List.of(request));
+
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(1L);
+        taskDto.setUserId(1L);
+
+        TaskResponse taskResponse = new TaskResponse();
+        taskResponse.setId(1L);
+        taskResponse.setUserId(1L);
+        taskResponse.setTitle("Test Task");
+        taskResponse.setDescription("Test Description");
+        taskResponse.setStatus(TaskStatus.TODO);
+
+        when(taskService.createTasks(anyList())).thenReturn(List.of(taskDto));
+        when(responseMapper.tasksToResponse(List.of(taskDto))).thenReturn(List.of(taskResponse));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/todo/task/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedJson = "{\"data\":[{\"id\":1,\"userId\":1,\"title\":\"Test Task\",\"description\":\"Test Description\",\"status\":\"TODO\"}],\"status\":\"CREATED\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+    }
+
+    @Test
+    @DisplayName("Пакетное создание задач - неверные входные данные")
+    void createTasks_ValidationError() throws Exception {
+        CreateTaskBatchRequest batchRequest = new CreateTaskBatchRequest();
+        batchRequest.setTasks(List.of(new CreateTaskRequest()));
+
+        mockMvc.perform(post("/api/v1/todo/task/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи - успешный сценарий")
+    void updateTask_Success() throws Exception {
+        Long taskId = 1L;
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setUserId(1L);
+        request.setVersion(0L);
+        request.setTitle("Patched Task");
+
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(taskId);
+        taskDto.setVersion(1L);
+        TaskResponse taskResponse = new TaskResponse();
+        taskResponse.setId(taskId);
+        taskResponse.setTitle("Patched Task");
+        taskResponse.setVersion(1L);
+
+        when(taskService.updateTask(eq(taskId), any(UpdateTaskRequest.class))).thenReturn(taskDto);
+        when(responseMapper.taskToResponse(taskDto)).thenReturn(taskResponse);
+
+        MvcResult result = mockMvc.perform(patch("/api/v1/todo/task/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedJson = "{\"data\":{\"id\":1,\"title\":\"Patched Task\",\"version\":1},\"status\":\"OK\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи - конфликт версий")
+    void updateTask_VersionConflict() throws Exception {
+        Long taskId = 1L;
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setUserId(1L);
+        request.setVersion(0L);
+        request.setTitle("Patched Task");
+
+        when(taskService.updateTask(eq(taskId), any(UpdateTaskRequest.class)))
+                .thenThrow(new VersionConflictException("Task with id: 1 has been modified by another request", timestamp));
+
+        mockMvc.perform(patch("/api/v1/todo/task/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи - нет изменяемых полей")
+    void updateTask_NothingChanged() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setUserId(1L);
+        request.setVersion(0L);
+
+        mockMvc.perform(patch("/api/v1/todo/task/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     @DisplayName("Запуск задачи - успешный сценарий")
     void startTask_Success() throws Exception {
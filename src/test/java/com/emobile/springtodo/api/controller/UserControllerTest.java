@@ -1,20 +1,27 @@
 package com.emobile.springtodo.api.controller;
 
+import com.emobile.springtodo.api.conditional.ConditionalGet;
 import com.emobile.springtodo.api.input.CreateUserRequest;
 import com.emobile.springtodo.api.mapper.ResponseMapper;
+import com.emobile.springtodo.api.output.user.UserDeletionResponse;
 import com.emobile.springtodo.api.output.user.UserResponse;
 import com.emobile.springtodo.core.entity.dto.UserDto;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
 import com.emobile.springtodo.core.exception.UserAlreadyExistsException;
 import com.emobile.springtodo.core.service.UserService;
+import com.emobile.springtodo.core.service.deletion.UserDeletionJob;
+import com.emobile.springtodo.core.service.deletion.UserDeletionStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -26,9 +33,9 @@ import java.text.SimpleDateFormat;
 import java.util.TimeZone;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -47,6 +54,15 @@ public class UserControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @TestConfiguration
+    static class ConditionalGetConfig {
+
+        @Bean
+        ConditionalGet conditionalGet() {
+            return new ConditionalGet(new SimpleMeterRegistry());
+        }
+    }
+
     SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.S");
     Timestamp timestamp;
 
@@ -80,6 +96,26 @@ public class UserControllerTest {
         JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
     }
 
+    @Test
+    @DisplayName("Получение пользователя по ID - пользователь не изменился")
+    void getUser_NotModified() throws Exception {
+        Long userId = 1L;
+        UserDto userDto = new UserDto();
+        userDto.setId(userId);
+        userDto.setUsername("dasha");
+        userDto.setEmail("dasha@example.com");
+        String etag = ConditionalGet.userETag(userDto);
+
+        when(userService.getUserDtoById(userId)).thenReturn(userDto);
+
+        mockMvc.perform(get("/api/v1/todo/user/{id}", userId)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(responseMapper, never()).userToResponse(any());
+    }
+
     @Test
     @DisplayName("Получение пользователя по ID - пользователь не найден")
     void getUser_NotFound() throws Exception {
@@ -133,7 +169,7 @@ public class UserControllerTest {
         request.setUsername("testuser");
         request.setEmail("test@mail.ru");
 
-        when(userService.createUser(any(CreateUserRequest.class))).thenThrow(new UserAlreadyExistsException("User already exists with username: testuser", timestamp));
+        when(userService.createUser(any(CreateUserRequest.class))).thenThrow(new UserAlreadyExistsException("User already exists with username: testuser", timestamp, "username"));
 
         MvcResult result = mockMvc.perform(post("/api/v1/todo/user")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -141,7 +177,7 @@ public class UserControllerTest {
                 .andExpect(status().isBadRequest())
                 .andReturn();
 
-        String expectedJson = "{\"data\":{\"status\":400,\"message\":\"User already exists with username: testuser\",\"timestamp\":\"" + sdf.format(timestamp) + "\"},\"status\":\"BAD_REQUEST\"}";
+        String expectedJson = "{\"data\":{\"status\":400,\"message\":\"User already exists with username: testuser\",\"field\":\"username\",\"timestamp\":\"" + sdf.format(timestamp) + "\"},\"status\":\"BAD_REQUEST\"}";
         JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
     }
 
@@ -164,11 +200,57 @@ public class UserControllerTest {
     @DisplayName("Удаление пользователя - успешный сценарий")
     void deleteUser_Success() throws Exception {
         Long userId = 1L;
-        doNothing().when(userService).deleteUser(userId);
+        UserDeletionJob job = new UserDeletionJob(userId);
+
+        UserDeletionResponse response = new UserDeletionResponse();
+        response.setUserId(userId);
+        response.setStatus(UserDeletionStatus.PENDING);
+
+        when(userService.deleteUser(userId)).thenReturn(job);
+        when(responseMapper.userDeletionToResponse(job)).thenReturn(response);
 
-        mockMvc.perform(delete("/api/v1/todo/user/{id}", userId)
+        MvcResult result = mockMvc.perform(delete("/api/v1/todo/user/{id}", userId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andReturn();
+
+        String expectedJson = "{\"data\":{\"userId\":1,\"status\":\"PENDING\",\"tasksDeleted\":0},\"status\":\"ACCEPTED\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+    }
+
+    @Test
+    @DisplayName("Получение прогресса удаления пользователя - успешный сценарий")
+    void getDeletion_Success() throws Exception {
+        Long userId = 1L;
+        UserDeletionJob job = new UserDeletionJob(userId);
+
+        UserDeletionResponse response = new UserDeletionResponse();
+        response.setUserId(userId);
+        response.setStatus(UserDeletionStatus.RUNNING);
+        response.setTasksDeleted(2000);
+
+        when(userService.getDeletionJob(userId)).thenReturn(job);
+        when(responseMapper.userDeletionToResponse(job)).thenReturn(response);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/todo/user/{id}/deletion", userId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedJson = "{\"data\":{\"userId\":1,\"status\":\"RUNNING\",\"tasksDeleted\":2000},\"status\":\"OK\"}";
+        JSONAssert.assertEquals(expectedJson, result.getResponse().getContentAsString(), false);
+    }
+
+    @Test
+    @DisplayName("Получение прогресса удаления пользователя - задача удаления не найдена")
+    void getDeletion_NotFound() throws Exception {
+        Long userId = 1L;
+        when(userService.getDeletionJob(userId))
+                .thenThrow(new ObjectNotFoundException("No deletion job for user with id: " + userId, timestamp));
+
+        mockMvc.perform(get("/api/v1/todo/user/{id}/deletion", userId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andReturn();
     }
 }
@@ -0,0 +1,159 @@
+package com.emobile.springtodo.api.idempotency;
+
+import com.emobile.springtodo.core.exception.IdempotencyConflictException;
+import com.emobile.springtodo.core.exception.IdempotencyKeyReusedException;
+import com.emobile.springtodo.core.service.idempotency.IdempotencyStore;
+import com.emobile.springtodo.core.service.idempotency.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyFilterTest {
+
+    private static final String KEY = "/api/v1/todo/task:retry-1";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private IdempotencyFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(idempotencyStore, new ObjectMapper(), 255);
+        request = new MockHttpServletRequest("POST", "/api/v1/todo/task");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - первый запрос выполняется и его ответ сохраняется")
+    void doFilter_FirstRequest_StoresResponse() throws Exception {
+        doAnswer(invocation -> {
+            HttpServletResponse captured = invocation.getArgument(1);
+            captured.setContentType("application/json");
+            captured.getWriter().write("{\"data\":{\"id\":1}}");
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        filter.doFilter(request, response, filterChain);
+
+        ArgumentCaptor<StoredResponse> stored = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(idempotencyStore).complete(eq(KEY), stored.capture());
+        verify(idempotencyStore).claim(KEY, stored.getValue().fingerprint());
+        assertEquals(200, stored.getValue().status());
+        assertEquals("{\"data\":{\"id\":1}}", new String(stored.getValue().body()));
+        assertEquals("{\"data\":{\"id\":1}}", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - повтор получает сохранённый ответ без выполнения запроса")
+    void doFilter_Retry_ReplaysStoredResponse() throws Exception {
+        when(idempotencyStore.claim(eq(KEY), anyString()))
+                .thenReturn(new StoredResponse(200, "application/json", "{\"data\":{\"id\":1}}".getBytes(), "fingerprint"));
+
+        filter.doFilter(request, response, filterChain);
+
+        verifyNoInteractions(filterChain);
+        assertEquals("true", response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("{\"data\":{\"id\":1}}", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - ответ с ошибкой сервера не сохраняется")
+    void doFilter_ServerError_ReleasesKey() throws Exception {
+        doAnswer(invocation -> {
+            HttpServletResponse captured = invocation.getArgument(1);
+            captured.setStatus(503);
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        filter.doFilter(request, response, filterChain);
+
+        verify(idempotencyStore).release(KEY);
+        verify(idempotencyStore, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - незавершённый первый запрос даёт 409")
+    void doFilter_InFlight_Conflict() throws Exception {
+        when(idempotencyStore.claim(eq(KEY), anyString()))
+                .thenThrow(new IdempotencyConflictException("In progress", Timestamp.from(Instant.now())));
+
+        filter.doFilter(request, response, filterChain);
+
+        verifyNoInteractions(filterChain);
+        assertEquals(409, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - ключ, повторённый с другим телом, даёт 422")
+    void doFilter_ReusedKey_Unprocessable() throws Exception {
+        when(idempotencyStore.claim(eq(KEY), anyString()))
+                .thenThrow(new IdempotencyKeyReusedException("Reused", Timestamp.from(Instant.now())));
+
+        filter.doFilter(request, response, filterChain);
+
+        verifyNoInteractions(filterChain);
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - тело запроса доступно обработчику после подсчёта отпечатка")
+    void doFilter_BodyFingerprinted_StillReadable() throws Exception {
+        request.setContent("{\"title\":\"Task\"}".getBytes());
+        request.addHeader("Accept", "application/json");
+        doAnswer(invocation -> {
+            HttpServletRequest forwarded = invocation.getArgument(0);
+            assertEquals("{\"title\":\"Task\"}", new String(forwarded.getInputStream().readAllBytes()));
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        filter.doFilter(request, response, filterChain);
+
+        verify(idempotencyStore).claim(KEY, IdempotencyFilter.fingerprint("application/json", "{\"title\":\"Task\"}".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - отпечаток зависит от тела и Accept")
+    void fingerprint_DependsOnBodyAndAccept() {
+        String fingerprint = IdempotencyFilter.fingerprint("application/json", "{\"id\":1}".getBytes());
+
+        assertEquals(fingerprint, IdempotencyFilter.fingerprint("application/json", "{\"id\":1}".getBytes()));
+        assertNotEquals(fingerprint, IdempotencyFilter.fingerprint("application/json", "{\"id\":2}".getBytes()));
+        assertNotEquals(fingerprint, IdempotencyFilter.fingerprint("application/cbor", "{\"id\":1}".getBytes()));
+        assertNotEquals(fingerprint, IdempotencyFilter.fingerprint(null, "{\"id\":1}".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - запрос без ключа проходит без проверок")
+    void doFilter_NoKey_PassesThrough() throws Exception {
+        MockHttpServletRequest plain = new MockHttpServletRequest("POST", "/api/v1/todo/task");
+
+        filter.doFilter(plain, response, filterChain);
+
+        verify(filterChain).doFilter(plain, response);
+        verifyNoInteractions(idempotencyStore);
+    }
+}
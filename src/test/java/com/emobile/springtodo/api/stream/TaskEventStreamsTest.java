@@ -0,0 +1,233 @@
+package com.emobile.springtodo.api.stream;
+
+import com.emobile.springtodo.api.mapper.ResponseMapper;
+import com.emobile.springtodo.api.output.task.TaskResponse;
+import com.emobile.springtodo.core.config.properties.AppTaskEventsProperties;
+import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.exception.TooManySubscribersException;
+import com.emobile.springtodo.core.service.events.TaskChangeType;
+import com.emobile.springtodo.core.service.events.TaskChangedEvent;
+import com.emobile.springtodo.core.service.overdue.TasksOverdueEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TaskEventStreamsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AppTaskEventsProperties properties;
+    private TaskEventStreams streams;
+
+    @BeforeEach
+    void setUp() {
+        ResponseMapper responseMapper = mock(ResponseMapper.class);
+        when(responseMapper.taskToResponse(any())).thenAnswer(invocation -> {
+            TaskDto task = invocation.getArgument(0);
+            TaskResponse response = new TaskResponse();
+            response.setId(task.getId());
+            response.setUserId(task.getUserId());
+            return response;
+        });
+        properties = new AppTaskEventsProperties();
+        properties.setBufferSize(2);
+        properties.setMaxSubscribers(50_000);
+        meterRegistry = new SimpleMeterRegistry();
+        streams = new TaskEventStreams(responseMapper, new ObjectMapper(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streams.stop();
+    }
+
+    @Test
+    @DisplayName("Рассылка событий задач - событие получают только подписчики владельца задачи")
+    void onTaskChanged_FansOutToOwnerSubscribers() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(null);
+        RecordingEmitter second = new RecordingEmitter(null);
+        RecordingEmitter other = new RecordingEmitter(null);
+        streams.subscribe(1L, first);
+        streams.subscribe(1L, second);
+        streams.subscribe(2L, other);
+
+        streams.onTaskChanged(new TaskChangedEvent(TaskChangeType.CREATED, task(10L, 1L)));
+
+        awaitTrue(() -> first.frames.size() == 1 && second.frames.size() == 1);
+        assertTrue(first.frames.get(0).contains("event:created"));
+        assertTrue(first.frames.get(0).contains("\"id\":10"));
+        assertEquals(first.frames, second.frames);
+        assertTrue(other.frames.isEmpty());
+        assertEquals(3, streams.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Рассылка событий задач - число просроченных задач уходит подписчикам пользователя")
+    void onTasksOverdue_SendsOverdueCount() throws Exception {
+        RecordingEmitter owner = new RecordingEmitter(null);
+        RecordingEmitter other = new RecordingEmitter(null);
+        streams.subscribe(1L, owner);
+        streams.subscribe(2L, other);
+
+        streams.onTasksOverdue(new TasksOverdueEvent(1L, 4L));
+
+        awaitTrue(() -> owner.frames.size() == 1);
+        assertTrue(owner.frames.get(0).contains("event:overdue"));
+        assertTrue(owner.frames.get(0).contains("\"overdue\":4"));
+        assertTrue(other.frames.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Рассылка событий задач - медленный подписчик отключается при переполнении буфера")
+    void onTaskChanged_DropsSlowSubscriber() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        streams.subscribe(1L, slow);
+        streams.subscribe(1L, fast);
+
+        for (long id = 1; id <= 5; id++) {
+            streams.onTaskChanged(new TaskChangedEvent(TaskChangeType.STARTED, task(id, 1L)));
+            int delivered = (int) id;
+            awaitTrue(() -> fast.frames.size() == delivered);
+        }
+        assertEquals(1, streams.getSubscriberCount());
+        release.countDown();
+
+        awaitTrue(() -> slow.completed);
+        assertTrue(slow.frames.size() <= 1);
+        assertEquals(5, fast.frames.size());
+        assertEquals(1, meterRegistry.counter("tasks.events.dropped.total").count());
+    }
+
+    @Test
+    @DisplayName("Рассылка событий задач - зависшая запись не задерживает других подписчиков и отключается по таймауту")
+    void dropStalled_StalledWritersDoNotBlockOthers() throws Exception {
+        properties.setWriteTimeout(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> stalled = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(release);
+            stalled.add(emitter);
+            streams.subscribe(1L, emitter);
+        }
+        RecordingEmitter fast = new RecordingEmitter(null);
+        streams.subscribe(1L, fast);
+
+        streams.onTaskChanged(new TaskChangedEvent(TaskChangeType.CREATED, task(1L, 1L)));
+
+        awaitTrue(() -> fast.frames.size() == 1 && stalled.stream().allMatch(emitter -> emitter.sending));
+        Thread.sleep(100);
+        streams.dropStalled();
+        assertEquals(1, streams.getSubscriberCount());
+        assertEquals(16, meterRegistry.counter("tasks.events.dropped.total").count());
+
+        streams.onTaskChanged(new TaskChangedEvent(TaskChangeType.STARTED, task(1L, 1L)));
+        awaitTrue(() -> fast.frames.size() == 2);
+        release.countDown();
+        awaitTrue(() -> stalled.stream().allMatch(emitter -> emitter.completed));
+    }
+
+    @Test
+    @DisplayName("Рассылка событий задач - отказ сверх лимита подписчиков и освобождение места после отключения")
+    void subscribe_OverLimit_Rejected() throws Exception {
+        properties.setMaxSubscribers(3);
+        properties.setBufferSize(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        streams.subscribe(1L, slow);
+        streams.subscribe(2L, new RecordingEmitter(null));
+        streams.subscribe(3L, new RecordingEmitter(null));
+
+        assertEquals(3, streams.getSubscriberCount());
+        assertThrows(TooManySubscribersException.class, () -> streams.subscribe(4L, new RecordingEmitter(null)));
+        assertEquals(3, streams.getSubscriberCount());
+
+        streams.onTaskChanged(new TaskChangedEvent(TaskChangeType.CREATED, task(1L, 1L)));
+        awaitTrue(() -> slow.sending);
+        streams.onTaskChanged(new TaskChangedEvent(TaskChangeType.STARTED, task(1L, 1L)));
+        streams.onTaskChanged(new TaskChangedEvent(TaskChangeType.ENDED, task(1L, 1L)));
+        assertEquals(2, streams.getSubscriberCount());
+        streams.subscribe(4L, new RecordingEmitter(null));
+        assertEquals(3, streams.getSubscriberCount());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Рассылка событий задач - heartbeat доходит до простаивающих подписчиков")
+    void sendHeartbeat_ReachesIdleSubscribers() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        streams.subscribe(1L, emitter);
+
+        streams.sendHeartbeat();
+
+        awaitTrue(() -> emitter.frames.size() == 1);
+        assertTrue(emitter.frames.get(0).startsWith(":"));
+    }
+
+    private static TaskDto task(Long id, Long userId) {
+        TaskDto task = new TaskDto();
+        task.setId(id);
+        task.setUserId(userId);
+        return task;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition was not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean completed;
+        private volatile boolean sending;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending = true;
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
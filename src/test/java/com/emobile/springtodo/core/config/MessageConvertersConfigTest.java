@@ -0,0 +1,135 @@
+package com.emobile.springtodo.core.config;
+
+import com.emobile.springtodo.api.output.ApiResponse;
+import com.emobile.springtodo.api.output.task.ListTaskResponse;
+import com.emobile.springtodo.api.output.task.TaskResponse;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageConvertersConfigTest {
+
+    private static final int[] PAGE_SIZES = {20, 100};
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+    private static final int ROUNDS = 5;
+
+    private final Timestamp timestamp = Timestamp.valueOf("2026-10-18 12:00:00");
+    private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        MessageConvertersConfig config = new MessageConvertersConfig();
+        mappers.put("json", Jackson2ObjectMapperBuilder.json().build());
+        mappers.put("cbor", config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper());
+        mappers.put("smile", config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Бинарные форматы ответа - страница задач компактнее JSON")
+    void binaryFormats_SmallerThanJson() throws IOException {
+        for (int pageSize : PAGE_SIZES) {
+            ApiResponse<ListTaskResponse> page = page(pageSize);
+            int json = mappers.get("json").writeValueAsBytes(page).length;
+
+            assertTrue(mappers.get("cbor").writeValueAsBytes(page).length < json);
+            assertTrue(mappers.get("smile").writeValueAsBytes(page).length < json);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Бинарные форматы ответа - размер страницы и время сериализации задачи по форматам")
+    void serialize_BytesAndNanosPerFormat() throws IOException {
+        System.out.printf("%-8s %-6s %12s %12s %12s%n", "format", "tasks", "bytes/page", "gzip bytes", "ns/task");
+        for (int pageSize : PAGE_SIZES) {
+            ApiResponse<ListTaskResponse> page = page(pageSize);
+            Map<String, Double> nanosPerTask = new LinkedHashMap<>();
+            for (Map.Entry<String, ObjectMapper> format : mappers.entrySet()) {
+                ObjectMapper mapper = format.getValue();
+                byte[] body = mapper.writeValueAsBytes(page);
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    mapper.writeValueAsBytes(page);
+                }
+                double bestNanos = Double.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long startedAt = System.nanoTime();
+                    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                        mapper.writeValueAsBytes(page);
+                    }
+                    bestNanos = Math.min(bestNanos, (System.nanoTime() - startedAt) / (double) MEASURED_ROUNDS / pageSize);
+                }
+                nanosPerTask.put(format.getKey(), bestNanos);
+                int gzipped = gzip(body).length;
+                System.out.printf("%-8s %-6d %12d %12d %12.1f%n",
+                        format.getKey(), pageSize, body.length, gzipped, bestNanos);
+                assertTrue(gzipped < body.length, format.getKey() + " page of " + pageSize + " grew under gzip");
+            }
+            for (String format : List.of("cbor", "smile")) {
+                assertTrue(nanosPerTask.get(format) < nanosPerTask.get("json"),
+                        format + " took " + nanosPerTask.get(format) + " ns/task, json " + nanosPerTask.get("json") + " ns/task");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Бинарные форматы ответа - метки времени задачи передаются числом")
+    void binaryFormats_TimestampsAsEpochMillis() throws IOException {
+        ApiResponse<ListTaskResponse> page = page(2);
+
+        JsonNode json = mappers.get("json").readTree(mappers.get("json").writeValueAsBytes(page));
+        assertTrue(json.at("/data/tasks/0/start").isTextual());
+
+        for (String format : List.of("cbor", "smile")) {
+            ObjectMapper mapper = mappers.get(format);
+            JsonNode body = mapper.readTree(mapper.writeValueAsBytes(page));
+            assertEquals(2, body.at("/data/tasks").size());
+            assertEquals(timestamp.getTime(), body.at("/data/tasks/1/start").asLong());
+            assertEquals("IN_PROGRESS", body.at("/data/tasks/1/status").asText());
+            assertEquals("OK", body.at("/status").asText());
+        }
+    }
+
+    private ApiResponse<ListTaskResponse> page(int size) {
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskResponse task = new TaskResponse();
+            task.setId(1_000L + i);
+            task.setUserId(1L);
+            task.setTitle("Task " + i);
+            task.setDescription("Description of task " + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.TODO : TaskStatus.IN_PROGRESS);
+            task.setStart(timestamp);
+            task.setDeadline(timestamp);
+            task.setEnd(timestamp);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return new ApiResponse<>(new ListTaskResponse(tasks, size, size, 0), HttpStatus.OK);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,13 +1,25 @@
 package com.emobile.springtodo.core.repository;
 
+import com.emobile.springtodo.core.entity.db.OutboxEvent;
+import com.emobile.springtodo.core.entity.db.OutboxEventType;
+import com.emobile.springtodo.core.entity.db.OverdueTask;
+import com.emobile.springtodo.core.entity.db.RankedTask;
 import com.emobile.springtodo.core.entity.db.Task;
 import com.emobile.springtodo.core.entity.db.TaskStatus;
 import com.emobile.springtodo.core.repository.cantainer.TestPostgresContainerConfig;
+import com.emobile.springtodo.core.service.pagination.TaskFilter;
+import com.emobile.springtodo.core.service.pagination.TaskSearchCursor;
+import com.emobile.springtodo.core.service.pagination.TaskSort;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
@@ -15,9 +27,15 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.sql.PreparedStatement;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +51,12 @@ public class TaskJDBCRepositoryTest {
     @Autowired
     private TaskJDBCRepository taskRepository;
 
+    @Autowired
+    private OutboxJDBCRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("Поиск задачи по ID - успешный сценарий")
     void findTaskById_Success() {
@@ -80,6 +104,42 @@ public class TaskJDBCRepositoryTest {
         assertTrue(tasks.isEmpty());
     }
 
+    @Test
+    @DisplayName("Поиск задач по пользователю после курсора - успешный сценарий")
+    void findTasksByUserAfter_Success() {
+        List<Task> firstPage = taskRepository.findByUserAfter(1L, 0L, 1);
+        List<Task> secondPage = taskRepository.findByUserAfter(1L, firstPage.get(0).getId(), 1);
+        List<Task> lastPage = taskRepository.findByUserAfter(1L, secondPage.get(0).getId(), 1);
+
+        assertEquals(1, firstPage.size());
+        assertEquals(1L, firstPage.get(0).getId());
+        assertEquals(1, secondPage.size());
+        assertEquals(2L, secondPage.get(0).getId());
+        assertTrue(lastPage.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Потоковое чтение задач пользователя - успешный сценарий")
+    void streamTasksByUser_Success() {
+        List<Task> tasks = new ArrayList<>();
+
+        taskRepository.streamByUser(1L, tasks::add);
+
+        assertEquals(2, tasks.size());
+        assertEquals(1L, tasks.get(0).getId());
+        assertEquals(2L, tasks.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Потоковое чтение ID задач - успешный сценарий")
+    void streamTaskIds_Success() {
+        Set<Long> ids = new HashSet<>();
+
+        taskRepository.streamIds(ids::add);
+
+        assertEquals(Set.of(1L, 2L), ids);
+    }
+
     @Test
     @DisplayName("Подсчет задач пользователя - успешный сценарий")
     void getTaskCountByUser_Success() {
@@ -97,6 +157,88 @@ public class TaskJDBCRepositoryTest {
         assertEquals(0L, count);
     }
 
+    @Test
+    @DisplayName("Подсчет задач пользователя по статусам - счетчики обновляются при сохранении")
+    void getTaskCountsByStatus_FollowsSaves() {
+        Map<TaskStatus, Long> initial = taskRepository.getTaskCountsByStatus(1L);
+
+        assertEquals(1L, initial.get(TaskStatus.TODO));
+        assertEquals(1L, initial.get(TaskStatus.IN_PROGRESS));
+        assertEquals(0L, initial.get(TaskStatus.DONE));
+
+        Task task = taskRepository.findById(2L).orElseThrow();
+        task.setStatus(TaskStatus.DONE);
+        taskRepository.save(task);
+
+        Map<TaskStatus, Long> updated = taskRepository.getTaskCountsByStatus(1L);
+        assertEquals(1L, updated.get(TaskStatus.TODO));
+        assertEquals(0L, updated.get(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, updated.get(TaskStatus.DONE));
+        assertEquals(2L, taskRepository.getTaskCountByUser(1L));
+    }
+
+    @Test
+    @DisplayName("Переход статуса задачи - успешный сценарий")
+    void transitionTask_Success() {
+        Optional<Task> started = taskRepository.startTask(1L, 1L);
+        Timestamp endDate = Timestamp.valueOf("2025-07-12 12:00:00");
+        Optional<Task> ended = taskRepository.endTask(2L, 1L, endDate);
+
+        assertTrue(started.isPresent());
+        assertEquals(TaskStatus.IN_PROGRESS, started.get().getStatus());
+        assertEquals("Test Task 1", started.get().getTitle());
+        assertTrue(ended.isPresent());
+        assertEquals(TaskStatus.DONE, ended.get().getStatus());
+        assertEquals(endDate, ended.get().getEndData());
+    }
+
+    @Test
+    @DisplayName("Переход статуса задачи - чужая или несуществующая задача")
+    void transitionTask_Rejected() {
+        assertFalse(taskRepository.startTask(1L, 2L).isPresent());
+        assertFalse(taskRepository.endTask(999L, 1L, Timestamp.valueOf("2025-07-12 12:00:00")).isPresent());
+        assertEquals(TaskStatus.TODO, taskRepository.findById(1L).orElseThrow().getStatus());
+        assertEquals(Optional.of(1L), taskRepository.findOwnerId(1L));
+        assertEquals(Optional.empty(), taskRepository.findOwnerId(999L));
+    }
+
+    @Test
+    @DisplayName("Поиск задач по списку ID - возвращаются только существующие")
+    void findTasksByIds_Success() {
+        List<Task> tasks = taskRepository.findByIds(List.of(2L, 1L, 99L));
+
+        assertEquals(2, tasks.size());
+        assertEquals(Set.of(1L, 2L), Set.of(tasks.get(0).getId(), tasks.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи - изменяются только переданные поля")
+    void updateTask_ChangedFieldsOnly() {
+        Task changes = new Task();
+        changes.setTitle("Patched Task");
+
+        Optional<Task> updated = taskRepository.update(1L, 1L, 0L, changes);
+
+        assertTrue(updated.isPresent());
+        assertEquals("Patched Task", updated.get().getTitle());
+        assertEquals("Description 1", updated.get().getDescription());
+        assertEquals(Timestamp.valueOf("2025-07-10 12:00:00"), updated.get().getCreatedAt());
+        assertEquals(1L, updated.get().getVersion());
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи - устаревшая версия")
+    void updateTask_StaleVersion() {
+        Task changes = new Task();
+        changes.setTitle("Patched Task");
+        taskRepository.update(1L, 1L, 0L, changes);
+
+        Optional<Task> updated = taskRepository.update(1L, 1L, 0L, changes);
+
+        assertFalse(updated.isPresent());
+        assertEquals(1L, taskRepository.findById(1L).orElseThrow().getVersion());
+    }
+
     @Test
     @DisplayName("Сохранение задачи - вставка новой задачи")
     void saveTask_Insert_Success() {
@@ -121,6 +263,33 @@ public class TaskJDBCRepositoryTest {
         assertEquals("New Task", retrievedTask.get().getTitle());
     }
 
+    @Test
+    @DisplayName("Пакетное сохранение задач - вставка новых задач")
+    void saveAllTasks_Insert_Success() {
+        Task first = new Task();
+        first.setUserId(1L);
+        first.setTitle("Batch Task 1");
+        first.setDescription("Batch Description 1");
+        first.setStatus(TaskStatus.TODO);
+        first.setDeadline(Timestamp.valueOf("2025-07-12 12:00:00"));
+
+        Task second = new Task();
+        second.setUserId(2L);
+        second.setTitle("Batch Task 2");
+        second.setDescription("Batch Description 2");
+        second.setStatus(TaskStatus.TODO);
+        second.setDeadline(Timestamp.valueOf("2025-07-12 12:00:00"));
+
+        List<Task> savedTasks = taskRepository.saveAll(List.of(first, second));
+
+        assertEquals(2, savedTasks.size());
+        assertNotNull(savedTasks.get(0).getId());
+        assertNotNull(savedTasks.get(1).getId());
+        assertEquals("Batch Task 1", taskRepository.findById(savedTasks.get(0).getId()).orElseThrow().getTitle());
+        assertEquals("Batch Task 2", taskRepository.findById(savedTasks.get(1).getId()).orElseThrow().getTitle());
+        assertEquals(1L, taskRepository.getTaskCountByUser(2L));
+    }
+
     @Test
     @DisplayName("Сохранение задачи - обновление существующей задачи")
     void saveTask_Update_Success() {
@@ -143,4 +312,293 @@ public class TaskJDBCRepositoryTest {
         assertEquals("Updated Description", retrievedTask.get().getDescription());
         assertEquals(TaskStatus.IN_PROGRESS, retrievedTask.get().getStatus());
     }
+
+    @Test
+    @DisplayName("Удаление задач пользователя порциями - успешный сценарий")
+    void deleteChunkByUser_Success() {
+        List<Long> first = taskRepository.deleteChunkByUser(1L, 1);
+        List<Long> second = taskRepository.deleteChunkByUser(1L, 1);
+        List<Long> third = taskRepository.deleteChunkByUser(1L, 1);
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertTrue(third.isEmpty());
+        assertNotEquals(first.get(0), second.get(0));
+        assertTrue(taskRepository.findById(first.get(0)).isEmpty());
+        assertEquals(0L, taskRepository.getTaskCountByUser(1L));
+    }
+
+    @Test
+    @DisplayName("Полнотекстовый поиск задач пользователя - успешный сценарий")
+    void searchTasks_Success() {
+        List<RankedTask> found = taskRepository.search(1L, "description 1", null, 10);
+
+        assertEquals(1, found.size());
+        assertEquals("Test Task 1", found.get(0).task().getTitle());
+        assertTrue(found.get(0).rank() > 0);
+        assertTrue(taskRepository.search(1L, "missing", null, 10).isEmpty());
+        assertTrue(taskRepository.search(2L, "task", null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Полнотекстовый поиск задач пользователя - постраничная выдача по курсору")
+    void searchTasks_CursorPaging() {
+        List<RankedTask> firstPage = taskRepository.search(1L, "task", null, 1);
+        RankedTask first = firstPage.get(0);
+        List<RankedTask> secondPage = taskRepository.search(1L, "task",
+                new TaskSearchCursor(first.rank(), first.task().getId()), 1);
+        RankedTask second = secondPage.get(0);
+        List<RankedTask> lastPage = taskRepository.search(1L, "task",
+                new TaskSearchCursor(second.rank(), second.task().getId()), 1);
+
+        assertNotEquals(first.task().getId(), second.task().getId());
+        assertTrue(first.rank() >= second.rank());
+        assertTrue(lastPage.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Пометка просроченных задач порциями - успешный сценарий")
+    void flagOverdueBatch_Success() {
+        Timestamp now = Timestamp.valueOf("2025-07-12 00:00:00");
+
+        List<OverdueTask> first = taskRepository.flagOverdueBatch(now, null, 1);
+        List<OverdueTask> second = taskRepository.flagOverdueBatch(now, first.get(0), 1);
+        List<OverdueTask> rest = taskRepository.flagOverdueBatch(now, null, 10);
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertNotEquals(first.get(0).id(), second.get(0).id());
+        assertTrue(rest.isEmpty());
+        assertEquals(2L, taskRepository.countOverdueByUser(1L));
+        assertEquals(Map.of(1L, 2L), taskRepository.countOverdueByUsers(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Пометка просроченных задач - задачи с будущим сроком не помечаются")
+    void flagOverdueBatch_NotDue() {
+        List<OverdueTask> flagged = taskRepository.flagOverdueBatch(Timestamp.valueOf("2025-07-11 00:00:00"), null, 10);
+
+        assertTrue(flagged.isEmpty());
+        assertEquals(0L, taskRepository.countOverdueByUser(1L));
+    }
+
+    @Test
+    @DisplayName("Запись событий в outbox - события пишутся вместе с изменением задачи")
+    void writeTask_AppendsOutboxEvents() {
+        Task task = Task.builder()
+                .userId(2L)
+                .title("Outbox Task")
+                .status(TaskStatus.TODO)
+                .build();
+        taskRepository.save(task);
+        taskRepository.startTask(task.getId(), 2L);
+        taskRepository.startTask(task.getId(), 1L);
+        taskRepository.endTask(task.getId(), 2L, Timestamp.valueOf("2025-07-12 12:00:00"));
+        taskRepository.deleteChunkByUser(2L, 10);
+
+        List<OutboxEvent> events = outboxRepository.lockBatch(10);
+
+        assertEquals(List.of(OutboxEventType.TASK_CREATED, OutboxEventType.TASK_STARTED, OutboxEventType.TASK_ENDED,
+                        OutboxEventType.TASK_DELETED),
+                events.stream().map(OutboxEvent::type).toList());
+        assertEquals(task.getId(), events.get(0).taskId());
+        assertEquals(2L, events.get(0).userId());
+        assertTrue(events.get(0).payload().contains("\"title\": \"Outbox Task\""));
+        assertTrue(events.get(2).payload().contains("\"status\": \"DONE\""));
+
+        outboxRepository.deleteByIds(events.stream().map(OutboxEvent::id).toList());
+        assertTrue(outboxRepository.lockBatch(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Групповая запись переходов задач - применяются только переходы владельца")
+    void applyTransitions_Success() {
+        Task started = taskRepository.findById(1L).orElseThrow();
+        started.setStatus(TaskStatus.IN_PROGRESS);
+        Task ended = taskRepository.findById(2L).orElseThrow();
+        ended.setStatus(TaskStatus.DONE);
+        ended.setEndData(Timestamp.valueOf("2025-07-12 12:00:00"));
+        Task foreign = taskRepository.findById(1L).orElseThrow();
+        foreign.setUserId(2L);
+        foreign.setStatus(TaskStatus.DONE);
+
+        List<Task> applied = taskRepository.applyTransitions(List.of(started, ended, foreign), false);
+
+        assertEquals(List.of(started, ended), applied);
+        Task first = taskRepository.findById(1L).orElseThrow();
+        assertEquals(TaskStatus.IN_PROGRESS, first.getStatus());
+        assertEquals(1L, first.getVersion());
+        Task second = taskRepository.findById(2L).orElseThrow();
+        assertEquals(TaskStatus.DONE, second.getStatus());
+        assertEquals(Timestamp.valueOf("2025-07-12 12:00:00"), second.getEndData());
+        assertEquals(1L, second.getVersion());
+        assertEquals(List.of(OutboxEventType.TASK_STARTED, OutboxEventType.TASK_ENDED),
+                outboxRepository.lockBatch(10).stream().map(OutboxEvent::type).toList());
+    }
+
+    @Test
+    @DisplayName("Многострочная вставка задач - заранее выделенные идентификаторы совпадают со строками")
+    void insertAll_Success() {
+        List<Task> tasks = List.of(
+                Task.builder().userId(1L).title("First").status(TaskStatus.TODO).build(),
+                Task.builder().userId(2L).title("Second").status(TaskStatus.TODO).build(),
+                Task.builder().userId(1L).title("Third").status(TaskStatus.TODO).build()
+        );
+
+        taskRepository.insertAll(tasks);
+
+        for (Task task : tasks) {
+            Task saved = taskRepository.findById(task.getId()).orElseThrow();
+            assertEquals(task.getTitle(), saved.getTitle());
+            assertEquals(task.getUserId(), saved.getUserId());
+            assertEquals(0L, task.getVersion());
+        }
+        assertEquals(3, outboxRepository.lockBatch(10).size());
+    }
+
+    @Test
+    @DisplayName("Загрузка задач через COPY - события создания пишутся в outbox")
+    void copyInTasks_AppendsOutboxEvents() {
+        Timestamp createdAt = Timestamp.valueOf("2025-07-10 12:00:00");
+        List<Task> tasks = List.of(
+                Task.builder().userId(1L).title("Copied \"one\"").status(TaskStatus.TODO).createdAt(createdAt).build(),
+                Task.builder().userId(2L).title("Copied two").status(TaskStatus.TODO).createdAt(createdAt).build()
+        );
+
+        assertEquals(2L, taskRepository.copyIn(tasks));
+
+        List<OutboxEvent> events = outboxRepository.lockBatch(10);
+        assertEquals(List.of(OutboxEventType.TASK_CREATED, OutboxEventType.TASK_CREATED),
+                events.stream().map(OutboxEvent::type).toList());
+        assertEquals(tasks.stream().map(Task::getId).toList(), events.stream().map(OutboxEvent::taskId).toList());
+        assertEquals("Copied \"one\"", taskRepository.findById(tasks.get(0).getId()).orElseThrow().getTitle());
+    }
+
+    @Tag("benchmark")
+    @DisplayName("Постраничный вывод задач - OFFSET против курсора на глубоких страницах")
+    @ParameterizedTest(name = "{0} задач")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void findByUser_OffsetVsKeyset(int tasks) {
+        int pageSize = 20;
+        int rounds = 50;
+        jdbcTemplate.update("INSERT INTO tasks (user_id, title, description, status, created_at)"
+                + " SELECT 1, 'Bulk ' || g, 'Description ' || g, 'TODO', now() FROM generate_series(1, ?) g", tasks);
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        int deepest = tasks - pageSize;
+        double offsetMicros = 0;
+        double keysetMicros = 0;
+        System.out.printf("%-10s %-10s %-8s %12s%n", "tasks", "mode", "offset", "us/page");
+        for (int offset : new int[]{0, tasks / 10, tasks / 2, deepest}) {
+            Long afterId = offset == 0 ? 0L : taskRepository.findByUser(1L, 1, offset - 1).get(0).getId();
+            assertEquals(taskRepository.findByUser(1L, pageSize, offset).stream().map(Task::getId).toList(),
+                    taskRepository.findByUserAfter(1L, afterId, pageSize).stream().map(Task::getId).toList());
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                taskRepository.findByUser(1L, pageSize, offset);
+            }
+            offsetMicros = (System.nanoTime() - startedAt) / 1_000.0 / rounds;
+            System.out.printf("%-10d %-10s %-8d %12.1f%n", tasks, "offset", offset, offsetMicros);
+
+            startedAt = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                taskRepository.findByUserAfter(1L, afterId, pageSize);
+            }
+            keysetMicros = (System.nanoTime() - startedAt) / 1_000.0 / rounds;
+            System.out.printf("%-10d %-10s %-8d %12.1f%n", tasks, "keyset", offset, keysetMicros);
+        }
+        assertTrue(keysetMicros < offsetMicros,
+                "Deepest page: keyset " + keysetMicros + " us, OFFSET " + offsetMicros + " us");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Импорт задач - COPY против построчной вставки")
+    void copyIn_VersusRowByRow() {
+        int rows = 20_000;
+        int chunkSize = 1_000;
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            taskRepository.save(bulkTask(i, createdAt));
+        }
+        double rowByRowSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        startedAt = System.nanoTime();
+        long copied = 0;
+        for (int from = 0; from < rows; from += chunkSize) {
+            List<Task> chunk = new ArrayList<>(chunkSize);
+            for (int i = from; i < from + chunkSize; i++) {
+                chunk.add(bulkTask(i, createdAt));
+            }
+            copied += taskRepository.copyIn(chunk);
+        }
+        double copySeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        System.out.printf("%-12s %12s%n", "mode", "rows/s");
+        System.out.printf("%-12s %12.0f%n", "row-by-row", rows / rowByRowSeconds);
+        System.out.printf("%-12s %12.0f%n", "copy", rows / copySeconds);
+        assertEquals(rows, copied);
+        assertEquals(2L * rows + 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_id = 1", Long.class));
+        assertTrue(rowByRowSeconds > 2 * copySeconds,
+                "COPY took " + copySeconds + " s, row by row " + rowByRowSeconds + " s");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Полнотекстовый поиск задач - задержка запроса первой страницы")
+    void search_Latency() {
+        int tasks = 10_000_000;
+        int users = 10_000;
+        int queries = 500;
+        String[] words = {"отчет", "report", "встреча", "meeting", "deploy", "релиз", "bug", "ошибка"};
+        jdbcTemplate.update("INSERT INTO users (username, email, created_at)"
+                + " SELECT 'search' || g, 'search' || g || '@example.com', now() FROM generate_series(1, ?) g",
+                users - 2);
+        Long[] userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class).toArray(Long[]::new);
+        assertEquals(users, userIds.length);
+        jdbcTemplate.execute("DROP INDEX idx_tasks_user_id_search_vector");
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("INSERT INTO tasks (user_id, title, description, status, created_at)"
+                    + " SELECT (?::bigint[])[1 + g % ?], (ARRAY['отчет', 'report', 'встреча', 'meeting', 'deploy', 'релиз', 'bug', 'ошибка'])[1 + g / ? % 8] || ' ' || g,"
+                    + " 'Description ' || (ARRAY['bug', 'meeting', 'релиз', 'отчет'])[1 + g / ? / 3 % 4], 'TODO', now()"
+                    + " FROM generate_series(1, ?) g");
+            statement.setArray(1, connection.createArrayOf("bigint", userIds));
+            statement.setInt(2, users);
+            statement.setInt(3, users);
+            statement.setInt(4, users);
+            statement.setInt(5, tasks);
+            return statement;
+        });
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_user_id_search_vector ON tasks USING GIN (user_id, search_vector)");
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        long[] latencies = new long[queries];
+        for (int i = 0; i < queries; i++) {
+            long userId = userIds[(int) ((i * 7_919L) % users)];
+            String query = words[i % words.length] + (i % 3 == 0 ? " -" + words[(i + 1) % words.length] : "");
+            long startedAt = System.nanoTime();
+            List<RankedTask> page = taskRepository.search(userId, query, null, 20);
+            latencies[i] = System.nanoTime() - startedAt;
+            assertFalse(page.isEmpty());
+        }
+        Arrays.sort(latencies);
+        double p99Millis = latencies[(int) (queries * 0.99) - 1] / 1_000_000.0;
+        System.out.printf("%-10s %-8s %-8s %10s %10s%n", "tasks", "users", "queries", "p50 ms", "p99 ms");
+        System.out.printf("%-10d %-8d %-8d %10.2f %10.2f%n", tasks, users, queries,
+                latencies[queries / 2] / 1_000_000.0, p99Millis);
+        assertTrue(p99Millis < 20, "Search p99 was " + p99Millis + " ms");
+    }
+
+    private static Task bulkTask(int index, Timestamp createdAt) {
+        return Task.builder()
+                .userId(1L)
+                .title("Imported " + index)
+                .description("Description " + index)
+                .status(TaskStatus.TODO)
+                .createdAt(createdAt)
+                .build();
+    }
 }
@@ -0,0 +1,99 @@
+package com.emobile.springtodo.core.repository;
+
+import com.emobile.springtodo.core.entity.db.TaskPartition;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.repository.cantainer.TestPostgresContainerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Testcontainers
+@ContextConfiguration(classes = TestPostgresContainerConfig.class)
+@Sql(scripts = {"classpath:db/clear.sql", "classpath:db/init-user.sql", "classpath:db/init-task.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Transactional
+@Rollback
+public class TaskPartitionRepositoryTest {
+
+    @Autowired
+    private TaskPartitionRepository partitionRepository;
+
+    @Autowired
+    private TaskJDBCRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Создание секции задач - секция появляется в списке")
+    void createPartition_Success() {
+        TaskPartition partition = TaskPartition.containing(LocalDate.of(2030, 2, 15));
+
+        partitionRepository.create(partition);
+
+        assertEquals("tasks_2030_q1", partition.name());
+        assertTrue(partitionRepository.findPartitions().contains(partition));
+    }
+
+    @Test
+    @DisplayName("Отсоединение секции задач - все задачи завершены")
+    void detachCompleted_AllDone() {
+        TaskPartition partition = TaskPartition.containing(LocalDate.of(2020, 1, 1));
+        partitionRepository.create(partition);
+        insertTask("DONE", "2020-02-01 12:00:00");
+
+        assertEquals(1L, taskRepository.getTaskCountsByStatus(1L).get(TaskStatus.DONE));
+
+        assertTrue(partitionRepository.detachCompleted(partition));
+
+        assertFalse(partitionRepository.findPartitions().contains(partition));
+        assertEquals(0L, taskRepository.getTaskCountsByStatus(1L).get(TaskStatus.DONE));
+        assertEquals(2L, taskRepository.getTaskCountByUser(1L));
+    }
+
+    @Test
+    @DisplayName("Отсоединение секции задач - есть незавершенные задачи")
+    void detachCompleted_OpenTasks() {
+        TaskPartition partition = TaskPartition.containing(LocalDate.of(2020, 1, 1));
+        partitionRepository.create(partition);
+        insertTask("TODO", "2020-02-01 12:00:00");
+
+        assertFalse(partitionRepository.detachCompleted(partition));
+
+        assertTrue(partitionRepository.findPartitions().contains(partition));
+        assertEquals(3L, taskRepository.getTaskCountByUser(1L));
+    }
+
+    @Test
+    @DisplayName("Удаление задач пользователя из отсоединенной секции")
+    void deleteArchivedByUser_Success() {
+        TaskPartition partition = TaskPartition.containing(LocalDate.of(2020, 1, 1));
+        partitionRepository.create(partition);
+        insertTask("DONE", "2020-02-01 12:00:00");
+        partitionRepository.detachCompleted(partition);
+
+        assertTrue(partitionRepository.findDetached().contains(partition));
+        assertEquals(1, partitionRepository.deleteArchivedByUser(partition, 1L).size());
+        assertTrue(partitionRepository.deleteArchivedByUser(partition, 1L).isEmpty());
+    }
+
+    private void insertTask(String status, String createdAt) {
+        jdbcTemplate.update("INSERT INTO tasks (user_id, title, description, status, created_at) VALUES (1, 'Old Task', 'Old', ?::task_status, ?::timestamp)",
+                status, createdAt);
+    }
+}
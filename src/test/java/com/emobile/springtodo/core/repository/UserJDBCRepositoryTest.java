@@ -3,10 +3,12 @@ package com.emobile.springtodo.core.repository;
 import com.emobile.springtodo.core.entity.db.User;
 import com.emobile.springtodo.core.repository.cantainer.TestPostgresContainerConfig;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
@@ -15,7 +17,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +37,9 @@ public class UserJDBCRepositoryTest {
     @Autowired
     private UserJDBCRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("Поиск пользователя по ID - успешный сценарий")
     void findUserById_Success() {
@@ -98,7 +106,7 @@ public class UserJDBCRepositoryTest {
         user.setEmail("new@example.com");
         user.setCreatedAt(Timestamp.valueOf("2025-07-10 12:00:00"));
 
-        User savedUser = userRepository.save(user);
+        User savedUser = userRepository.saveIfAbsent(user).orElseThrow();
 
         assertNotNull(savedUser.getId());
         assertEquals("newuser", savedUser.getUsername());
@@ -111,6 +119,51 @@ public class UserJDBCRepositoryTest {
         assertEquals("new@example.com", retrievedUser.get().getEmail());
     }
 
+    @Test
+    @DisplayName("Сохранение пользователя - конфликт по уникальному полю")
+    void saveUser_Conflict() {
+        User user = new User();
+        user.setUsername("testuser1");
+        user.setEmail("other@example.com");
+
+        Optional<User> savedUser = userRepository.saveIfAbsent(user);
+
+        assertFalse(savedUser.isPresent());
+        assertEquals(Optional.of("username"), userRepository.findConflictingColumn("testuser1", "other@example.com"));
+        assertEquals(Optional.of("email"), userRepository.findConflictingColumn("otheruser", "test1@example.com"));
+        assertEquals(Optional.empty(), userRepository.findConflictingColumn("otheruser", "other@example.com"));
+    }
+
+    @Test
+    @DisplayName("Загрузка пользователей через COPY - успешный сценарий")
+    void copyInUsers_Success() {
+        User first = new User(null, "copyuser1", "copy1@example.com", Timestamp.valueOf("2025-07-10 12:00:00"));
+        User second = new User(null, "copy,\"user2\"", "copy2@example.com", Timestamp.valueOf("2025-07-10 12:00:00"));
+
+        long copied = userRepository.copyIn(List.of(first, second));
+
+        assertEquals(2L, copied);
+        assertEquals(first.getId(), userRepository.findByUsername("copyuser1").orElseThrow().getId());
+        assertTrue(userRepository.findByUsername("copy,\"user2\"").isPresent());
+    }
+
+    @Test
+    @DisplayName("Поиск пользователей по именам или почтам - находятся совпадения по любому из полей")
+    void findByUsernamesOrEmails_Success() {
+        List<User> taken = userRepository.findByUsernamesOrEmails(
+                List.of("testuser1", "newuser"), List.of("new@example.com", "test2@example.com"));
+
+        assertEquals(Set.of("testuser1", "testuser2"), taken.stream().map(User::getUsername).collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("Поиск существующих ID пользователей - успешный сценарий")
+    void findExistingIds_Success() {
+        Set<Long> existing = userRepository.findExistingIds(List.of(1L, 2L, 999L));
+
+        assertEquals(Set.of(1L, 2L), existing);
+    }
+
     @Test
     @DisplayName("Удаление пользователя по ID - успешный сценарий")
     void deleteUserById_Success() {
@@ -119,4 +172,84 @@ public class UserJDBCRepositoryTest {
         Optional<User> user = userRepository.findById(1L);
         assertFalse(user.isPresent());
     }
+
+    @Test
+    @DisplayName("Пометка пользователя на удаление - пользователь скрыт из выборок")
+    void tombstoneUser_Success() {
+        assertTrue(userRepository.tombstone(1L));
+        assertFalse(userRepository.tombstone(1L));
+
+        assertFalse(userRepository.findById(1L).isPresent());
+        assertFalse(userRepository.findByUsername("testuser1").isPresent());
+        assertEquals(Set.of(2L), userRepository.findExistingIds(List.of(1L, 2L)));
+        assertEquals(List.of(1L), userRepository.findTombstonedIds());
+    }
+
+    @Test
+    @DisplayName("Удаление помеченного пользователя - удаляется только после пометки")
+    void deleteTombstonedUser_Success() {
+        assertFalse(userRepository.deleteTombstoned(2L));
+
+        userRepository.tombstone(2L);
+
+        assertTrue(userRepository.deleteTombstoned(2L));
+        assertTrue(userRepository.findTombstonedIds().isEmpty());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Создание пользователей - проверка и вставка против одной вставки ON CONFLICT")
+    void saveIfAbsent_VersusLookupThenInsert() {
+        int existing = 1_000_000;
+        int signups = 500;
+        jdbcTemplate.execute("DROP INDEX ux_users_username");
+        jdbcTemplate.execute("DROP INDEX ux_users_email");
+        jdbcTemplate.update("INSERT INTO users (username, email, created_at)"
+                + " SELECT 'bulk' || g, 'bulk' || g || '@example.com', now() FROM generate_series(1, ?) g", existing);
+        jdbcTemplate.execute("ANALYZE users");
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < signups; i++) {
+            String username = "lookup" + i;
+            String email = username + "@example.com";
+            if (userRepository.findByUsername(username).isEmpty() && userRepository.findByEmail(email).isEmpty()) {
+                jdbcTemplate.update("INSERT INTO users (username, email, created_at) VALUES (?, ?, now())", username, email);
+            }
+        }
+        double lookupSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        jdbcTemplate.execute("CREATE UNIQUE INDEX ux_users_username ON users (username)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX ux_users_email ON users (email)");
+        jdbcTemplate.execute("ANALYZE users");
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < signups; i++) {
+            String username = "upsert" + i;
+            assertTrue(userRepository.saveIfAbsent(user(username, username + "@example.com")).isPresent());
+        }
+        double upsertSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < signups; i++) {
+            String username = "upsert" + i;
+            String email = username + "@example.com";
+            assertTrue(userRepository.saveIfAbsent(user(username, email)).isEmpty());
+            assertEquals(Optional.of("username"), userRepository.findConflictingColumn(username, email));
+        }
+        double conflictSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        System.out.printf("%-16s %-10s %12s%n", "mode", "users", "signups/s");
+        System.out.printf("%-16s %-10d %12.0f%n", "lookup+insert", existing, signups / lookupSeconds);
+        System.out.printf("%-16s %-10d %12.0f%n", "on-conflict", existing, signups / upsertSeconds);
+        System.out.printf("%-16s %-10d %12.0f%n", "conflict", existing, signups / conflictSeconds);
+        assertTrue(upsertSeconds < lookupSeconds,
+                "ON CONFLICT took " + upsertSeconds + " s, lookup then insert " + lookupSeconds + " s");
+    }
+
+    private static User user(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
 }
@@ -0,0 +1,68 @@
+package com.emobile.springtodo.core.repository.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdBloomGuardTest {
+
+    @Test
+    @DisplayName("Фильтр Блума - нет ложноотрицательных ответов, доля ложноположительных в пределах нормы")
+    void filter_NoFalseNegatives() {
+        IdBloomFilter filter = new IdBloomFilter(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+        int falsePositives = 0;
+        for (long id = 10_001; id <= 110_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "Доля ложноположительных ответов должна быть около 1%");
+        assertEquals(0.01, filter.getFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    @DisplayName("Защита по ID - до построения фильтра пропускает все ID")
+    void guard_NotBuilt_AllowsEverything() {
+        IdBloomGuard guard = new IdBloomGuard();
+
+        assertFalse(guard.isReady());
+        assertTrue(guard.mightContain(42L));
+    }
+
+    @Test
+    @DisplayName("Защита по ID - отсекает отсутствующие и учитывает новые ID")
+    void guard_Built_RejectsAbsentIds() {
+        IdBloomGuard guard = new IdBloomGuard();
+        guard.rebuild(new IdBloomFilter(1_000, 0.001), consumer -> {
+            consumer.accept(1L);
+            consumer.accept(1_000L);
+        });
+
+        assertTrue(guard.mightContain(1L));
+        assertFalse(guard.mightContain(500L));
+
+        guard.add(500L);
+        assertTrue(guard.mightContain(500L));
+    }
+
+    @Test
+    @DisplayName("Защита по ID - ID, добавленные до перестроения, остаются видимыми")
+    void guard_Rebuild_KeepsPreviousGeneration() {
+        IdBloomGuard guard = new IdBloomGuard();
+        guard.rebuild(new IdBloomFilter(1_000, 0.001), consumer -> consumer.accept(1L));
+        guard.add(7L);
+
+        guard.rebuild(new IdBloomFilter(1_000, 0.001), consumer -> consumer.accept(1L));
+
+        assertTrue(guard.mightContain(7L));
+        assertTrue(guard.getMemoryBytes() > 0);
+    }
+}
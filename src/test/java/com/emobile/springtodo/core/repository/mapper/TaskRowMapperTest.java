@@ -0,0 +1,143 @@
+package com.emobile.springtodo.core.repository.mapper;
+
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskRowMapperTest {
+
+    private static final int ROWS = 1_000;
+    private static final int WARMUP_PASSES = 2_000;
+    private static final int MEASURED_PASSES = 2_000;
+    private static final int ROUNDS = 5;
+
+    private static final String[] COLUMNS = TaskRowMapper.COLUMNS.split(", ");
+    private static final int[] TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP, Types.BIGINT
+    };
+
+    private final Timestamp timestamp = Timestamp.valueOf("2026-10-18 12:00:00");
+    private CachedRowSet rows;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(COLUMNS.length);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            metaData.setColumnName(i + 1, COLUMNS[i]);
+            metaData.setColumnLabel(i + 1, COLUMNS[i]);
+            metaData.setColumnType(i + 1, TYPES[i]);
+        }
+        rows = RowSetProvider.newFactory().createCachedRowSet();
+        rows.setMetaData(metaData);
+        for (long id = 1; id <= ROWS; id++) {
+            rows.moveToInsertRow();
+            rows.updateLong(1, id);
+            rows.updateLong(2, 1L);
+            rows.updateString(3, "Task " + id);
+            rows.updateString(4, "Description " + id);
+            rows.updateString(5, id % 2 == 0 ? "DONE" : "TODO");
+            rows.updateTimestamp(6, timestamp);
+            rows.updateTimestamp(7, timestamp);
+            if (id % 2 == 0) {
+                rows.updateTimestamp(8, timestamp);
+            } else {
+                rows.updateNull(8);
+            }
+            rows.updateLong(9, id % 3);
+            rows.insertRow();
+        }
+        rows.moveToCurrentRow();
+    }
+
+    @Test
+    @DisplayName("Маппер задач - колонки читаются по позициям из списка COLUMNS")
+    void mapRow_ReadsColumnsByPosition() throws SQLException {
+        rows.beforeFirst();
+        rows.next();
+        rows.next();
+
+        Task task = new TaskRowMapper().mapRow(rows, 1);
+
+        assertEquals(2L, task.getId());
+        assertEquals(1L, task.getUserId());
+        assertEquals("Task 2", task.getTitle());
+        assertEquals("Description 2", task.getDescription());
+        assertEquals(TaskStatus.DONE, task.getStatus());
+        assertEquals(timestamp, task.getDeadline());
+        assertEquals(timestamp, task.getCreatedAt());
+        assertEquals(timestamp, task.getEndData());
+        assertEquals(2L, task.getVersion());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Маппер задач - чтение по позициям быстрее чтения по именам колонок")
+    void mapRow_PositionalVsLabels() throws SQLException {
+        RowMapper<Task> positional = new TaskRowMapper();
+        RowMapper<Task> byLabel = (rs, rowNum) -> {
+            Task task = new Task();
+            task.setId(rs.getLong("id"));
+            task.setUserId(rs.getLong("user_id"));
+            task.setTitle(rs.getString("title"));
+            task.setDescription(rs.getString("description"));
+            task.setStatus(TaskStatus.fromValue(rs.getString("status")));
+            task.setDeadline(rs.getTimestamp("deadline"));
+            task.setCreatedAt(rs.getTimestamp("created_at"));
+            task.setEndData(rs.getTimestamp("end_date"));
+            task.setVersion(rs.getLong("version"));
+            return task;
+        };
+
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            mapAll(positional);
+            mapAll(byLabel);
+        }
+        double positionalNanos = Double.MAX_VALUE;
+        double byLabelNanos = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            positionalNanos = Math.min(positionalNanos, nanosPerRow(positional));
+            byLabelNanos = Math.min(byLabelNanos, nanosPerRow(byLabel));
+        }
+
+        System.out.printf("%-12s %10s%n", "mapper", "ns/row");
+        System.out.printf("%-12s %10.1f%n", "by-label", byLabelNanos);
+        System.out.printf("%-12s %10.1f%n", "positional", positionalNanos);
+        assertTrue(positionalNanos < byLabelNanos,
+                "Positional mapping took " + positionalNanos + " ns/row, by label " + byLabelNanos + " ns/row");
+    }
+
+    private double nanosPerRow(RowMapper<Task> mapper) throws SQLException {
+        long checksum = 0;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_PASSES; i++) {
+            checksum += mapAll(mapper);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        assertEquals((long) MEASURED_PASSES * ROWS * (ROWS + 1) / 2, checksum);
+        return (double) elapsed / MEASURED_PASSES / ROWS;
+    }
+
+    private long mapAll(RowMapper<Task> mapper) throws SQLException {
+        long checksum = 0;
+        rows.beforeFirst();
+        for (int rowNum = 0; rows.next(); rowNum++) {
+            checksum += mapper.mapRow(rows, rowNum).getId();
+        }
+        return checksum;
+    }
+}
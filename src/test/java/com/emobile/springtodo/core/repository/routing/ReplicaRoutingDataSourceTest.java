@@ -0,0 +1,120 @@
+package com.emobile.springtodo.core.repository.routing;
+
+import com.emobile.springtodo.core.config.properties.AppReplicaProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource dataSource;
+    private ReplicaReads replicaReads;
+
+    @BeforeEach
+    void setUp() {
+        AppReplicaProperties properties = new AppReplicaProperties();
+        properties.setEnable(true);
+        properties.setReadYourWritesWindow(Duration.ofMinutes(1));
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica));
+        replicaReads = new ReplicaReads(properties);
+    }
+
+    @Test
+    @DisplayName("Маршрутизация - вне чтения с реплики используется основной узел")
+    void getConnection_DefaultsToPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("Маршрутизация - чтение задач пользователя уходит на реплику")
+    void forUser_UsesReplica() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        Connection connection = replicaReads.forUser(1L, this::connect);
+
+        assertSame(replicaConnection, connection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Маршрутизация - после записи пользователь читает с основного узла")
+    void forUser_AfterWrite_UsesPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        replicaReads.markWrite(1L);
+
+        Connection connection = replicaReads.forUser(1L, this::connect);
+
+        assertSame(primaryConnection, connection);
+        assertTrue(replicaReads.wroteRecently(1L));
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("Маршрутизация - отсутствующая на реплике строка перечитывается с основного узла")
+    void withPrimaryFallback_MissOnReplica() {
+        List<Boolean> routes = new ArrayList<>();
+
+        Optional<String> result = replicaReads.withPrimaryFallback(() -> {
+            routes.add(ReplicaReads.isReplicaRequested());
+            return routes.size() == 1 ? Optional.empty() : Optional.of("primary");
+        });
+
+        assertEquals(Optional.of("primary"), result);
+        assertEquals(List.of(true, false), routes);
+    }
+
+    @Test
+    @DisplayName("Маршрутизация - после записи пользователь по id читается только с основного узла")
+    void withPrimaryFallback_AfterWrite_UsesPrimary() {
+        List<Boolean> routes = new ArrayList<>();
+        replicaReads.markWrite(1L);
+
+        Optional<String> result = replicaReads.withPrimaryFallback(1L, () -> {
+            routes.add(ReplicaReads.isReplicaRequested());
+            return Optional.of("primary");
+        });
+
+        assertEquals(Optional.of("primary"), result);
+        assertEquals(List.of(false), routes);
+    }
+
+    private Connection connect() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.core.config.properties.AppIdempotencyProperties;
+import com.emobile.springtodo.core.exception.IdempotencyConflictException;
+import com.emobile.springtodo.core.exception.IdempotencyKeyReusedException;
+import com.emobile.springtodo.core.repository.cantainer.RedisContainer4Test;
+import com.emobile.springtodo.core.repository.cantainer.TestPostgresContainerConfig;
+import com.emobile.springtodo.core.service.idempotency.IdempotencyStore;
+import com.emobile.springtodo.core.service.idempotency.StoredResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ContextConfiguration(classes = {TestPostgresContainerConfig.class})
+public class IdempotencyStoreTest extends RedisContainer4Test {
+
+    private static final int LOOKUPS = 1_000;
+    private static final String FINGERPRINT = "fingerprint";
+
+    @Autowired
+    private ObjectProvider<RedisTemplate<String, Object>> redisTemplate;
+
+    private AppIdempotencyProperties properties;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AppIdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+        properties.setPollInterval(Duration.ofMillis(5));
+        store = newNode();
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - повторный запрос получает сохранённый первый ответ")
+    void claim_Completed_ReturnsStoredResponse() {
+        String key = key();
+        StoredResponse response = response("{\"id\":1}");
+
+        assertNull(store.claim(key, FINGERPRINT));
+        store.complete(key, response);
+        StoredResponse replayed = newNode().claim(key, FINGERPRINT);
+
+        assertNotNull(replayed);
+        assertEquals(200, replayed.status());
+        assertArrayEquals(response.body(), replayed.body());
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - ключ с другим телом запроса отклоняется")
+    void claim_DifferentFingerprint_Rejected() {
+        String key = key();
+        assertNull(store.claim(key, FINGERPRINT));
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> store.claim(key, "other"));
+        assertThrows(IdempotencyKeyReusedException.class, () -> newNode().claim(key, "other"));
+
+        store.complete(key, response("{\"id\":1}"));
+        assertThrows(IdempotencyKeyReusedException.class, () -> newNode().claim(key, "other"));
+        assertNotNull(newNode().claim(key, FINGERPRINT));
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - параллельный дубликат ждёт результата первого запроса")
+    void claim_ConcurrentDuplicate_WaitsForInFlightResult() throws Exception {
+        String key = key();
+        IdempotencyStore otherNode = newNode();
+        assertNull(store.claim(key, FINGERPRINT));
+
+        CompletableFuture<StoredResponse> sameNode = CompletableFuture.supplyAsync(() -> store.claim(key, FINGERPRINT));
+        CompletableFuture<StoredResponse> remoteNode = CompletableFuture.supplyAsync(() -> otherNode.claim(key, FINGERPRINT));
+        Thread.sleep(100);
+        assertFalse(sameNode.isDone());
+        assertFalse(remoteNode.isDone());
+
+        store.complete(key, response("{\"id\":2}"));
+
+        assertEquals("{\"id\":2}", new String(sameNode.get(5, TimeUnit.SECONDS).body()));
+        assertEquals("{\"id\":2}", new String(remoteNode.get(5, TimeUnit.SECONDS).body()));
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - после сбоя первого запроса повтор выполняется заново")
+    void claim_Released_DuplicateTakesOver() throws Exception {
+        String key = key();
+        assertNull(store.claim(key, FINGERPRINT));
+        CompletableFuture<StoredResponse> duplicate = CompletableFuture.supplyAsync(() -> store.claim(key, FINGERPRINT));
+
+        store.release(key);
+
+        assertNull(duplicate.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Идемпотентность - дубликат получает 409, если первый запрос не завершился вовремя")
+    void claim_InFlightTooLong_Conflict() {
+        String key = key();
+        properties.setWaitTimeout(Duration.ofMillis(100));
+        assertNull(store.claim(key, FINGERPRINT));
+
+        assertThrows(IdempotencyConflictException.class, () -> newNode().claim(key, FINGERPRINT));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Идемпотентность - проверка нового ключа занимает меньше 1 мс")
+    void claim_NewKey_UnderOneMillisecond() {
+        for (int i = 0; i < LOOKUPS; i++) {
+            store.release(key());
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertNull(store.claim(key(), FINGERPRINT));
+        }
+        double averageMillis = (System.nanoTime() - startedAt) / 1_000_000.0 / LOOKUPS;
+
+        assertTrue(averageMillis < 1.0, "Average claim took " + averageMillis + " ms");
+    }
+
+    private IdempotencyStore newNode() {
+        return new IdempotencyStore(redisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    private static String key() {
+        return "/api/v1/todo/task:" + UUID.randomUUID();
+    }
+
+    private static StoredResponse response(String body) {
+        return new StoredResponse(200, "application/json", body.getBytes(), FINGERPRINT);
+    }
+}
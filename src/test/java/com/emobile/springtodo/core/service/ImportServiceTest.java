@@ -0,0 +1,156 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.api.input.CreateTaskRequest;
+import com.emobile.springtodo.api.input.CreateUserRequest;
+import com.emobile.springtodo.core.config.properties.AppImportProperties;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.User;
+import com.emobile.springtodo.core.mapper.TaskMapper;
+import com.emobile.springtodo.core.mapper.UserMapper;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.repository.UserJDBCRepository;
+import com.emobile.springtodo.core.service.importing.ImportFormat;
+import com.emobile.springtodo.core.service.importing.ImportReport;
+import com.emobile.springtodo.core.service.importing.ImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportServiceTest {
+
+    @Mock
+    private UserJDBCRepository userRepository;
+
+    @Mock
+    private TaskJDBCRepository taskRepository;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    private ImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AppImportProperties importProperties = new AppImportProperties();
+        importProperties.setChunkSize(2);
+        importService = new ImportService(userRepository, taskRepository, taskService, userMapper, taskMapper,
+                validator, new ObjectMapper(), importProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Импорт пользователей из NDJSON - загрузка порциями")
+    void importUsersNdjson_CopiesInChunks() {
+        String body = """
+                {"username":"user1","email":"user1@example.com"}
+                {"username":"user2","email":"user2@example.com"}
+                {"username":"user3","email":"user3@example.com"}
+                {"username":"","email":"not-an-email"}
+                not json
+                """;
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(userMapper.requestToUser(any(CreateUserRequest.class))).thenAnswer(invocation -> new User());
+        when(userRepository.copyIn(anyList())).thenAnswer(invocation -> {
+            List<User> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return (long) chunk.size();
+        });
+
+        ImportReport report = importService.importUsers(stream(body), ImportFormat.NDJSON);
+
+        assertEquals(3L, report.getImported());
+        assertEquals(2L, report.getRejected());
+        assertEquals(2, report.getChunks());
+        assertEquals(List.of(2, 1), chunkSizes);
+    }
+
+    @Test
+    @DisplayName("Импорт пользователей из CSV - дубликаты в файле и уже занятые имена пропускаются")
+    void importUsersCsv_SkipsDuplicates() {
+        String body = """
+                username,email
+                user1,user1@example.com
+                user1,other@example.com
+                user2,user1@example.com
+                taken,user3@example.com
+                user4,user4@example.com
+                """;
+        List<String> copied = new ArrayList<>();
+        when(userMapper.requestToUser(any(CreateUserRequest.class))).thenAnswer(invocation -> {
+            CreateUserRequest request = invocation.getArgument(0);
+            return new User(null, request.getUsername(), request.getEmail(), null);
+        });
+        when(userRepository.findByUsernamesOrEmails(anyCollection(), anyCollection())).thenAnswer(invocation ->
+                ((Collection<?>) invocation.getArgument(0)).contains("taken")
+                        ? List.of(new User(1L, "taken", "taken@example.com", null))
+                        : List.of());
+        when(userRepository.copyIn(anyList())).thenAnswer(invocation -> {
+            List<User> chunk = invocation.getArgument(0);
+            chunk.forEach(user -> copied.add(user.getUsername()));
+            return (long) chunk.size();
+        });
+
+        ImportReport report = importService.importUsers(stream(body), ImportFormat.CSV);
+
+        assertEquals(List.of("user1", "user4"), copied);
+        assertEquals(2L, report.getImported());
+        assertEquals(3L, report.getSkipped());
+        assertEquals(0L, report.getRejected());
+    }
+
+    @Test
+    @DisplayName("Импорт задач из CSV - задачи неизвестных пользователей отклоняются")
+    void importTasksCsv_RejectsUnknownUsers() {
+        String body = """
+                user_id,title,description,deadline
+                1,"Task, one","Description 1",2099-01-01 12:00:00
+                999,Task two,Description 2,2099-01-01 12:00:00
+                1,,Description 3,2099-01-01 12:00:00
+                """;
+        when(taskMapper.requestToTask(any(CreateTaskRequest.class))).thenAnswer(invocation -> {
+            CreateTaskRequest request = invocation.getArgument(0);
+            Task task = new Task();
+            task.setUserId(request.getUserId());
+            task.setTitle(request.getTitle());
+            return task;
+        });
+        when(userRepository.findExistingIds(Set.of(1L, 999L))).thenReturn(Set.of(1L));
+        when(taskRepository.copyIn(anyList())).thenAnswer(invocation -> (long) ((List<?>) invocation.getArgument(0)).size());
+
+        ImportReport report = importService.importTasks(stream(body), ImportFormat.CSV);
+
+        assertEquals(1L, report.getImported());
+        assertEquals(2L, report.getRejected());
+        verify(taskService).evictUserTaskCaches(Set.of(1L));
+    }
+
+    private ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
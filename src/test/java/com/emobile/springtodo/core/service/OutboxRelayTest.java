@@ -0,0 +1,167 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.core.config.properties.AppOutboxProperties;
+import com.emobile.springtodo.core.entity.db.OutboxEvent;
+import com.emobile.springtodo.core.entity.db.OutboxEventType;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.repository.OutboxJDBCRepository;
+import com.emobile.springtodo.core.repository.cantainer.TestPostgresContainerConfig;
+import com.emobile.springtodo.core.service.outbox.OutboxPublisher;
+import com.emobile.springtodo.core.service.outbox.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ContextConfiguration(classes = {TestPostgresContainerConfig.class})
+@Sql(scripts = {"classpath:db/clear.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class OutboxRelayTest {
+
+    private static final int EVENTS = 10_000;
+    private static final double REQUIRED_EVENTS_PER_SECOND = 5_000;
+
+    @Autowired
+    private OutboxJDBCRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AppOutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AppOutboxProperties();
+        properties.setBatchSize(500);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Ретрансляция outbox - все события публикуются по порядку несколькими пачками")
+    void relayPending_PublishesAllEventsInOrder() {
+        appendEvents(1_200);
+        AtomicLong published = new AtomicLong();
+        AtomicLong lastId = new AtomicLong();
+        OutboxRelay relay = relay(events -> {
+            for (OutboxEvent event : events) {
+                assertTrue(event.id() > lastId.getAndSet(event.id()));
+            }
+            published.addAndGet(events.size());
+        });
+
+        assertEquals(1_200L, relay.relayPending());
+
+        assertEquals(1_200L, published.get());
+        assertEquals(0L, countPending());
+        assertEquals(1_200, meterRegistry.counter("outbox.events.relayed.total").count());
+        assertEquals(3, meterRegistry.timer("outbox.relay.batch").count());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Ретрансляция outbox - выдерживает 5000 событий в секунду")
+    void relayPending_KeepsUpWithRequiredThroughput() {
+        appendEvents(EVENTS);
+        OutboxRelay relay = relay(events -> {
+        });
+
+        long startedAt = System.nanoTime();
+        long relayed = relay.relayPending();
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        assertEquals(EVENTS, relayed);
+        assertTrue(EVENTS / seconds >= REQUIRED_EVENTS_PER_SECOND,
+                "Relayed " + EVENTS + " events in " + seconds + " s");
+    }
+
+    @Test
+    @DisplayName("Ретрансляция outbox - при ошибке публикации события остаются в очереди")
+    void relayPending_PublisherFails_EventsStayQueued() {
+        appendEvents(10);
+        OutboxRelay relay = relay(events -> {
+            throw new IllegalStateException("Webhook is down");
+        });
+
+        assertThrows(IllegalStateException.class, relay::relayPending);
+
+        assertEquals(10L, countPending());
+        assertEquals(0, meterRegistry.counter("outbox.events.relayed.total").count());
+        assertTrue(relay.getLagMillis() >= 0);
+    }
+
+    @Test
+    @DisplayName("Ретрансляция outbox - параллельные ретрансляторы не публикуют событие дважды")
+    void relayPending_ConcurrentRelays_PublishEachEventOnce() throws Exception {
+        appendEvents(2_000);
+        Set<Long> publishedIds = ConcurrentHashMap.newKeySet();
+        AtomicLong duplicates = new AtomicLong();
+        OutboxPublisher publisher = events -> events.forEach(event -> {
+            if (!publishedIds.add(event.id())) {
+                duplicates.incrementAndGet();
+            }
+        });
+        OutboxRelay first = relay(publisher);
+        OutboxRelay second = relay(publisher);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> firstRelayed = executor.submit(first::relayPending);
+            Future<Long> secondRelayed = executor.submit(second::relayPending);
+
+            assertEquals(2_000L, firstRelayed.get() + secondRelayed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0L, duplicates.get());
+        assertEquals(2_000, publishedIds.size());
+        assertEquals(0L, countPending());
+    }
+
+    private OutboxRelay relay(OutboxPublisher publisher) {
+        return new OutboxRelay(outboxRepository, publisher, properties, transactionManager, meterRegistry);
+    }
+
+    private void appendEvents(int count) {
+        Timestamp createdAt = Timestamp.valueOf("2026-10-18 12:00:00");
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder()
+                    .id((long) i + 1)
+                    .userId(1L)
+                    .title("Task " + i)
+                    .status(TaskStatus.TODO)
+                    .createdAt(createdAt)
+                    .version(0L)
+                    .build());
+        }
+        outboxRepository.append(OutboxEventType.TASK_CREATED, tasks);
+    }
+
+    private long countPending() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Long.class);
+    }
+}
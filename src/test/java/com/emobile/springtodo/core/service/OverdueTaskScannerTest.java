@@ -0,0 +1,76 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.core.config.properties.AppOverdueProperties;
+import com.emobile.springtodo.core.entity.db.OverdueTask;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.service.overdue.OverdueTaskScanner;
+import com.emobile.springtodo.core.service.overdue.TasksOverdueEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OverdueTaskScannerTest {
+
+    @Mock
+    private TaskJDBCRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OverdueTaskScanner scanner;
+
+    private final Timestamp now = Timestamp.valueOf("2026-10-18 12:00:00");
+
+    @BeforeEach
+    void setUp() {
+        AppOverdueProperties properties = new AppOverdueProperties();
+        properties.setBatchSize(2);
+        properties.setRowsPerSecond(1_000_000);
+        scanner = new OverdueTaskScanner(taskRepository, properties, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Сканирование просроченных задач - порции идут по ключу (deadline, id)")
+    void scan_ContinuesFromLastKey() throws Exception {
+        OverdueTask first = new OverdueTask(5L, 1L, Timestamp.valueOf("2026-10-01 00:00:00"));
+        OverdueTask second = new OverdueTask(3L, 2L, Timestamp.valueOf("2026-10-02 00:00:00"));
+        OverdueTask third = new OverdueTask(9L, 1L, Timestamp.valueOf("2026-10-03 00:00:00"));
+        when(taskRepository.flagOverdueBatch(now, null, 2)).thenReturn(List.of(second, first));
+        when(taskRepository.flagOverdueBatch(now, second, 2)).thenReturn(List.of(third));
+        when(taskRepository.countOverdueByUsers(Set.of(1L, 2L))).thenReturn(Map.of(1L, 4L, 2L, 1L));
+
+        Map<Long, Long> flagged = scanner.scan(now);
+
+        assertEquals(Map.of(1L, 2L, 2L, 1L), flagged);
+        verify(eventPublisher).publishEvent(new TasksOverdueEvent(1L, 4L));
+        verify(eventPublisher).publishEvent(new TasksOverdueEvent(2L, 1L));
+        verify(taskRepository, times(1)).countOverdueByUsers(any());
+    }
+
+    @Test
+    @DisplayName("Сканирование просроченных задач - нет просроченных задач")
+    void scan_NothingOverdue() throws Exception {
+        when(taskRepository.flagOverdueBatch(now, null, 2)).thenReturn(List.of());
+
+        Map<Long, Long> flagged = scanner.scan(now);
+
+        assertTrue(flagged.isEmpty());
+        verify(taskRepository, never()).countOverdueByUsers(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,188 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.core.config.properties.AppInsertBatchingProperties;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.repository.cantainer.TestPostgresContainerConfig;
+import com.emobile.springtodo.core.service.batching.TaskInsertCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ContextConfiguration(classes = {TestPostgresContainerConfig.class})
+@Sql(scripts = {"classpath:db/clear.sql", "classpath:db/init-user.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class TaskInsertCoalescerTest {
+
+    private static final int INSERTS_PER_LEVEL = 2_000;
+    private static final int[] CONCURRENCY_LEVELS = {1, 8, 32, 64};
+
+    @Autowired
+    private TaskJDBCRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AppInsertBatchingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskInsertCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AppInsertBatchingProperties();
+        properties.setEnable(true);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new TaskInsertCoalescer(taskRepository, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Групповая вставка задач - каждый вызывающий получает идентификатор своей строки")
+    void insert_Concurrent_EachCallerGetsOwnRow() throws Exception {
+        properties.setWindow(Duration.ofMillis(50));
+        int inserts = 256;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<Task>> inserted = new ArrayList<>(inserts);
+            for (int i = 0; i < inserts; i++) {
+                Task task = task(i % 2 + 1L);
+                task.setTitle("Task " + i);
+                inserted.add(executor.submit(() -> {
+                    start.await();
+                    return coalescer.insert(task);
+                }));
+            }
+            start.countDown();
+
+            Set<Long> ids = new HashSet<>();
+            for (Future<Task> future : inserted) {
+                Task task = future.get(10, TimeUnit.SECONDS);
+                assertTrue(ids.add(task.getId()));
+                assertEquals(task.getTitle(), jdbcTemplate.queryForObject(
+                        "SELECT title FROM tasks WHERE id = ?", String.class, task.getId()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(meterRegistry.summary("tasks.insert.batch.size").max() > 1);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Групповая вставка задач - пропускная способность и задержка на разных уровнях параллелизма")
+    void insert_ThroughputAcrossConcurrencyLevels() throws Exception {
+        System.out.printf("%-12s %-10s %12s %12s %12s%n", "mode", "threads", "inserts/s", "mean ms", "p99 ms");
+        Set<Long> ids = new HashSet<>();
+        double singleRowThroughput = 0;
+        double coalescedThroughput = 0;
+        for (int threads : CONCURRENCY_LEVELS) {
+            singleRowThroughput = run("single-row", threads, taskRepository::save, ids);
+            coalescedThroughput = run("coalesced", threads, coalescer::insert, ids);
+        }
+
+        int expected = INSERTS_PER_LEVEL * CONCURRENCY_LEVELS.length * 2;
+        assertEquals(expected, ids.size());
+        assertEquals(expected, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class));
+        assertTrue(meterRegistry.summary("tasks.insert.batch.size").max() > 1);
+        assertTrue(coalescedThroughput > singleRowThroughput,
+                "At " + CONCURRENCY_LEVELS[CONCURRENCY_LEVELS.length - 1] + " threads coalesced inserts ran at "
+                        + coalescedThroughput + "/s, single-row at " + singleRowThroughput + "/s");
+    }
+
+    @Test
+    @DisplayName("Групповая вставка задач - ошибка одной строки не затрагивает остальные")
+    void insert_FailingRow_OthersInserted() throws Exception {
+        properties.setBatchSize(4);
+        properties.setWindow(Duration.ofMillis(200));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Task>> inserted = new ArrayList<>();
+            for (long userId : new long[]{1L, 2L, 999L, 1L}) {
+                inserted.add(executor.submit(() -> {
+                    start.await();
+                    return coalescer.insert(task(userId));
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < inserted.size(); i++) {
+                if (i == 2) {
+                    Future<Task> failed = inserted.get(i);
+                    Exception e = assertThrows(Exception.class, () -> failed.get(10, TimeUnit.SECONDS));
+                    assertInstanceOf(DataAccessException.class, e.getCause());
+                } else {
+                    assertNotNull(inserted.get(i).get(10, TimeUnit.SECONDS).getId());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class));
+    }
+
+    private double run(String mode, int threads, UnaryOperator<Task> insert, Set<Long> ids) throws Exception {
+        long[] latencies = new long[INSERTS_PER_LEVEL];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Long>> futures = new ArrayList<>(INSERTS_PER_LEVEL);
+        long startedAt = System.nanoTime();
+        try {
+            for (int i = 0; i < INSERTS_PER_LEVEL; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    long callStartedAt = System.nanoTime();
+                    Task task = insert.apply(task(index % 2 + 1L));
+                    latencies[index] = System.nanoTime() - callStartedAt;
+                    return task.getId();
+                }));
+            }
+            for (Future<Long> future : futures) {
+                ids.add(future.get());
+            }
+            double throughput = INSERTS_PER_LEVEL / ((System.nanoTime() - startedAt) / 1_000_000_000.0);
+            Arrays.sort(latencies);
+            System.out.printf("%-12s %-10d %12.0f %12.2f %12.2f%n",
+                    mode,
+                    threads,
+                    throughput,
+                    Arrays.stream(latencies).average().orElse(0) / 1_000_000.0,
+                    latencies[(int) (INSERTS_PER_LEVEL * 0.99) - 1] / 1_000_000.0);
+            return throughput;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Task task(long userId) {
+        return Task.builder()
+                .userId(userId)
+                .title("Task of user " + userId)
+                .status(TaskStatus.TODO)
+                .build();
+    }
+}
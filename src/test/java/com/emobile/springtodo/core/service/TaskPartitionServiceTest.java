@@ -0,0 +1,63 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.core.config.properties.AppPartitionProperties;
+import com.emobile.springtodo.core.entity.db.TaskPartition;
+import com.emobile.springtodo.core.repository.TaskPartitionRepository;
+import com.emobile.springtodo.core.service.partition.TaskPartitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskPartitionServiceTest {
+
+    @Mock
+    private TaskPartitionRepository partitionRepository;
+
+    private TaskPartitionService partitionService;
+
+    @BeforeEach
+    void setUp() {
+        AppPartitionProperties properties = new AppPartitionProperties();
+        properties.setPrecreateQuarters(2);
+        properties.setRetainQuarters(4);
+        partitionService = new TaskPartitionService(partitionRepository, properties);
+    }
+
+    @Test
+    @DisplayName("Обслуживание секций - создаются недостающие будущие секции")
+    void maintain_CreatesMissingPartitions() {
+        TaskPartition current = new TaskPartition(LocalDate.of(2026, 10, 1));
+        when(partitionRepository.findPartitions()).thenReturn(List.of(current));
+
+        partitionService.maintain(LocalDate.of(2026, 10, 18));
+
+        verify(partitionRepository, never()).create(current);
+        verify(partitionRepository).create(new TaskPartition(LocalDate.of(2027, 1, 1)));
+        verify(partitionRepository).create(new TaskPartition(LocalDate.of(2027, 4, 1)));
+        verify(partitionRepository, never()).detachCompleted(any());
+    }
+
+    @Test
+    @DisplayName("Обслуживание секций - отсоединяются только секции старше срока хранения")
+    void maintain_DetachesExpiredPartitions() {
+        TaskPartition expired = new TaskPartition(LocalDate.of(2025, 7, 1));
+        TaskPartition retained = new TaskPartition(LocalDate.of(2025, 10, 1));
+        when(partitionRepository.findPartitions()).thenReturn(List.of(expired, retained));
+        when(partitionRepository.detachCompleted(expired)).thenReturn(true);
+
+        partitionService.maintain(LocalDate.of(2026, 10, 18));
+
+        verify(partitionRepository).detachCompleted(expired);
+        verify(partitionRepository, never()).detachCompleted(retained);
+    }
+}
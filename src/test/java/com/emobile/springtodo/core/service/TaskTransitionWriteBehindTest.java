@@ -0,0 +1,210 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.core.config.properties.AppWriteBehindProperties;
+import com.emobile.springtodo.core.entity.db.Task;
+import com.emobile.springtodo.core.entity.db.TaskStatus;
+import com.emobile.springtodo.core.exception.AccessRightsException;
+import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.writebehind.TaskTransitionWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskTransitionWriteBehindTest {
+
+    @Mock
+    private TaskJDBCRepository taskRepository;
+
+    private AppWriteBehindProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCacheManager cacheManager;
+    private UserTaskCacheKeys userTaskCacheKeys;
+    private TaskTransitionWriteBehind writeBehind;
+
+    private final Timestamp createdAt = Timestamp.valueOf("2026-10-01 12:00:00");
+    private final Timestamp endDate = Timestamp.valueOf("2026-10-18 12:00:00");
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, Task> loader = id -> {
+        loads.incrementAndGet();
+        return Task.builder()
+                .id(id)
+                .userId(1L)
+                .title("Task " + id)
+                .status(TaskStatus.TODO)
+                .createdAt(createdAt)
+                .version(0L)
+                .build();
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties = new AppWriteBehindProperties();
+        properties.setEnable(true);
+        properties.setCapacity(100);
+        properties.setBatchSize(10);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new ConcurrentMapCacheManager("taskById", "taskCacheGeneration");
+        userTaskCacheKeys = new UserTaskCacheKeys(cacheManager);
+        writeBehind = new TaskTransitionWriteBehind(taskRepository, properties, cacheManager, userTaskCacheKeys, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - переходы пишутся одной группой в порядке постановки")
+    @SuppressWarnings("unchecked")
+    void flushBatch_WritesQueuedTransitionsInOneGroup() {
+        when(taskRepository.applyTransitions(anyList(), eq(true))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Task started = writeBehind.transition(1L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+        Task ended = writeBehind.transition(1L, 1L, TaskStatus.DONE, endDate, loader);
+        writeBehind.transition(2L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+
+        assertEquals(1L, started.getVersion());
+        assertEquals(2L, ended.getVersion());
+        assertEquals(endDate, ended.getEndData());
+        assertEquals(2, loads.get());
+        assertEquals(3, writeBehind.getQueueDepth());
+        verifyNoInteractions(taskRepository);
+
+        assertEquals(3, writeBehind.flushBatch());
+
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).applyTransitions(captor.capture(), eq(true));
+        assertEquals(List.of(TaskStatus.IN_PROGRESS, TaskStatus.DONE, TaskStatus.IN_PROGRESS),
+                captor.getValue().stream().map(Task::getStatus).toList());
+        assertEquals(0, writeBehind.getQueueDepth());
+        assertEquals(1, meterRegistry.timer("tasks.write_behind.flush").count());
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - чужая задача отклоняется без постановки в очередь")
+    void transition_ForeignTask_Rejected() {
+        assertThrows(AccessRightsException.class,
+                () -> writeBehind.transition(1L, 2L, TaskStatus.IN_PROGRESS, null, loader));
+
+        assertEquals(0, writeBehind.getQueueDepth());
+        assertEquals(0, writeBehind.flushBatch());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - при заполненной очереди вызывающий поток сбрасывает группу сам")
+    void transition_QueueFull_CallerFlushes() {
+        properties.setCapacity(2);
+        when(taskRepository.applyTransitions(anyList(), eq(true))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        writeBehind.transition(1L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+        writeBehind.transition(2L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+        writeBehind.transition(3L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+
+        verify(taskRepository).applyTransitions(argThat(tasks -> tasks.size() == 2), eq(true));
+        assertEquals(1, writeBehind.getQueueDepth());
+        assertEquals(1, meterRegistry.counter("tasks.write_behind.backpressure.total").count());
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - при ошибке базы группа сохраняется и пишется повторно")
+    void flushBatch_Failure_RetriesSameBatch() {
+        properties.setSynchronousCommit(false);
+        when(taskRepository.applyTransitions(anyList(), eq(false)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        writeBehind.transition(1L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+
+        assertThrows(DataAccessResourceFailureException.class, writeBehind::flushBatch);
+        assertEquals(1, writeBehind.getQueueDepth());
+        assertEquals(1, writeBehind.flushBatch());
+        assertEquals(0, writeBehind.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - режим FLUSHED возвращает управление после фиксации группы")
+    void transition_FlushedDurability_WaitsForGroupCommit() {
+        properties.setDurability(AppWriteBehindProperties.Durability.FLUSHED);
+        when(taskRepository.applyTransitions(anyList(), eq(true))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        writeBehind.transition(1L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+
+        verify(taskRepository).applyTransitions(argThat(tasks -> tasks.size() == 1), eq(true));
+        assertEquals(0, writeBehind.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - режим FLUSHED пробрасывает ошибку фиксации")
+    void transition_FlushedDurability_PropagatesFailure() {
+        properties.setDurability(AppWriteBehindProperties.Durability.FLUSHED);
+        when(taskRepository.applyTransitions(anyList(), eq(true)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> writeBehind.transition(1L, 1L, TaskStatus.IN_PROGRESS, null, loader));
+        assertEquals(0, writeBehind.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - отклоненный базой переход учитывается и сбрасывает кэши")
+    void flushBatch_RejectedTransition_CountedAndEvicted() {
+        when(taskRepository.applyTransitions(anyList(), eq(true)))
+                .thenAnswer(invocation -> List.of(invocation.<List<Task>>getArgument(0).get(1)));
+        Cache taskById = cacheManager.getCache("taskById");
+        writeBehind.transition(1L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+        writeBehind.transition(2L, 1L, TaskStatus.IN_PROGRESS, null, loader);
+        taskById.put(1L, "stale");
+        taskById.put(2L, "fresh");
+        String namespace = userTaskCacheKeys.namespace(1L);
+
+        assertEquals(2, writeBehind.flushBatch());
+
+        assertEquals(1, meterRegistry.counter("tasks.write_behind.rejected.total").count());
+        assertNull(taskById.get(1L));
+        assertNotNull(taskById.get(2L));
+        assertNotEquals(namespace, userTaskCacheKeys.namespace(1L));
+        assertEquals(0, writeBehind.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - режим FLUSHED сообщает об отклоненном переходе")
+    void transition_FlushedDurability_RejectedTransition() {
+        properties.setDurability(AppWriteBehindProperties.Durability.FLUSHED);
+        when(taskRepository.applyTransitions(anyList(), eq(true))).thenReturn(List.of());
+
+        ObjectNotFoundException exception = assertThrows(ObjectNotFoundException.class,
+                () -> writeBehind.transition(1L, 1L, TaskStatus.IN_PROGRESS, null, loader));
+        assertEquals("Task with id: 1 not found", exception.getMessage());
+        assertEquals(0, writeBehind.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Отложенная запись переходов - очередь дописывается при остановке")
+    void stop_DrainsQueue() throws Exception {
+        when(taskRepository.applyTransitions(anyList(), eq(true))).thenAnswer(invocation -> invocation.getArgument(0));
+        properties.setBatchSize(2);
+        for (long id = 1; id <= 5; id++) {
+            writeBehind.transition(id, 1L, TaskStatus.IN_PROGRESS, null, loader);
+        }
+
+        writeBehind.stop();
+
+        verify(taskRepository, times(3)).applyTransitions(anyList(), eq(true));
+        assertEquals(0, writeBehind.getQueueDepth());
+    }
+}
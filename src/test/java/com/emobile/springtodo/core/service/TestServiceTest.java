@@ -1,13 +1,32 @@
 package com.emobile.springtodo.core.service;
 
 import com.emobile.springtodo.api.input.CreateTaskRequest;
+import com.emobile.springtodo.api.input.UpdateTaskRequest;
+import com.emobile.springtodo.core.entity.db.RankedTask;
 import com.emobile.springtodo.core.entity.db.Task;
 import com.emobile.springtodo.core.entity.db.TaskStatus;
 import com.emobile.springtodo.core.entity.db.User;
 import com.emobile.springtodo.core.entity.dto.TaskDto;
+import com.emobile.springtodo.core.entity.dto.TaskSearchDto;
+import com.emobile.springtodo.core.entity.dto.TaskStatsDto;
+import com.emobile.springtodo.core.exception.AccessRightsException;
+import com.emobile.springtodo.core.exception.InvalidCursorException;
 import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.exception.TooManyIdsException;
+import com.emobile.springtodo.core.exception.VersionConflictException;
 import com.emobile.springtodo.core.mapper.TaskMapper;
 import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilter;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilters;
+import com.emobile.springtodo.core.service.batching.TaskInsertCoalescer;
+import com.emobile.springtodo.core.service.cache.BatchCacheOperations;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.events.TaskChangeType;
+import com.emobile.springtodo.core.service.events.TaskChangedEvent;
+import com.emobile.springtodo.core.service.pagination.TaskCursor;
+import com.emobile.springtodo.core.service.pagination.TaskSearchCursor;
+import com.emobile.springtodo.core.service.reminder.ReminderService;
+import com.emobile.springtodo.core.service.writebehind.TaskTransitionWriteBehind;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -17,16 +36,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +79,33 @@ public class TestServiceTest {
     @Mock
     private Counter counter;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private BatchCacheOperations batchCacheOperations;
+
+    @Mock
+    private UserTaskCacheKeys userTaskCacheKeys;
+
+    @Mock
+    private ReminderService reminderService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskTransitionWriteBehind transitionWriteBehind;
+
+    @Mock
+    private TaskInsertCoalescer insertCoalescer;
+
+    @Spy
+    private IdBloomFilters idBloomFilters = new IdBloomFilters();
+
     private ObjectMapper objectMapper;
 
     @InjectMocks
@@ -162,6 +217,83 @@ public class TestServiceTest {
         verify(taskMapper).listTaskToListTaskDto(List.of(task));
     }
 
+    @Test
+    @DisplayName("Получение списка задач пользователя по курсору - успешный сценарий")
+    void getTasksByUserAfterCursor_Success() {
+        Long userId = 1L;
+        int limit = 10;
+        Task task = new Task();
+        task.setId(6L);
+        task.setUserId(userId);
+
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(6L);
+        taskDto.setUserId(userId);
+
+        when(taskRepository.findByUserAfter(userId, 5L, limit)).thenReturn(List.of(task));
+        when(taskMapper.listTaskToListTaskDto(List.of(task))).thenReturn(List.of(taskDto));
+
+        List<TaskDto> result = taskService.getTasksByUser(userId, limit, TaskCursor.encode(5L));
+
+        assertEquals(1, result.size());
+        assertEquals(6L, result.get(0).getId());
+        verify(taskRepository).findByUserAfter(userId, 5L, limit);
+    }
+
+    @Test
+    @DisplayName("Получение списка задач пользователя по курсору - неверный курсор")
+    void getTasksByUserAfterCursor_InvalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> taskService.getTasksByUser(1L, 10, "not-a-cursor"));
+        verifyNoInteractions(taskRepository, taskMapper);
+    }
+
+    @Test
+    @DisplayName("Поиск задач пользователя - курсор на следующую страницу строится по рангу и ID")
+    void searchTasksByUser_Success() {
+        Long userId = 1L;
+        Task first = new Task();
+        first.setId(7L);
+        Task second = new Task();
+        second.setId(3L);
+        TaskDto firstDto = new TaskDto();
+        firstDto.setId(7L);
+        TaskDto secondDto = new TaskDto();
+        secondDto.setId(3L);
+
+        when(taskRepository.search(userId, "report", null, 2))
+                .thenReturn(List.of(new RankedTask(first, 0.6f), new RankedTask(second, 0.3f)));
+        when(taskMapper.taskToDto(first)).thenReturn(firstDto);
+        when(taskMapper.taskToDto(second)).thenReturn(secondDto);
+
+        TaskSearchDto result = taskService.searchTasksByUser(userId, "report", 2, null);
+
+        assertEquals(List.of(firstDto, secondDto), result.getTasks());
+        assertEquals(new TaskSearchCursor(0.3f, 3L), TaskSearchCursor.decode(result.getNextCursor()));
+        verify(userService).findUserById(userId);
+    }
+
+    @Test
+    @DisplayName("Поиск задач пользователя - последняя страница без курсора")
+    void searchTasksByUser_LastPage() {
+        Long userId = 1L;
+        TaskSearchCursor after = new TaskSearchCursor(0.3f, 3L);
+        when(taskRepository.search(userId, "report", after, 2)).thenReturn(List.of());
+
+        TaskSearchDto result = taskService.searchTasksByUser(userId, "report", 2, after.encode());
+
+        assertTrue(result.getTasks().isEmpty());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Поиск задач пользователя - неверный курсор")
+    void searchTasksByUser_InvalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> taskService.searchTasksByUser(1L, "report", 10, TaskCursor.encode(5L)));
+        verifyNoInteractions(taskRepository, userService);
+    }
+
     @Test
     @DisplayName("Получение количества задач пользователя - успешный сценарий")
     void getTaskCountByUser_Success() {
@@ -174,6 +306,66 @@ public class TestServiceTest {
         verify(taskRepository).getTaskCountByUser(userId);
     }
 
+    @Test
+    @DisplayName("Получение задачи по ID - фильтр Блума отсекает несуществующий ID")
+    void getTaskById_RejectedByBloomFilter() {
+        idBloomFilters.tasks().rebuild(new IdBloomFilter(100, 0.001), consumer -> consumer.accept(1L));
+
+        ObjectNotFoundException exception = assertThrows(ObjectNotFoundException.class,
+                () -> taskService.getTaskById(999L));
+        assertEquals("Task with id: 999 not found", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Получение задач по списку ID - кэш и база данных")
+    void getTasksByIds_CacheHitsAndMisses() {
+        TaskDto cached = new TaskDto();
+        cached.setId(2L);
+        Task task = new Task();
+        task.setId(1L);
+        TaskDto loaded = new TaskDto();
+        loaded.setId(1L);
+
+        when(cacheManager.getCache("taskById")).thenReturn(cache);
+        when(batchCacheOperations.getAll(cache, List.of(1L, 2L, 3L), TaskDto.class))
+                .thenReturn(new HashMap<>(Map.of(2L, cached)));
+        when(taskRepository.findByIds(List.of(1L, 3L))).thenReturn(List.of(task));
+        when(taskMapper.taskToDto(task)).thenReturn(loaded);
+
+        List<TaskDto> result = taskService.getTasksByIds(List.of(1L, 2L, 3L, 1L));
+
+        assertEquals(List.of(loaded, cached, loaded), result);
+        verify(batchCacheOperations).putAll(cache, Map.of(1L, loaded));
+    }
+
+    @Test
+    @DisplayName("Получение задач по списку ID - слишком много ID")
+    void getTasksByIds_TooManyIds() {
+        List<Long> ids = Collections.nCopies(TaskService.MAX_IDS_PER_REQUEST + 1, 1L);
+
+        assertThrows(TooManyIdsException.class, () -> taskService.getTasksByIds(ids));
+        verifyNoInteractions(taskRepository, batchCacheOperations);
+    }
+
+    @Test
+    @DisplayName("Получение статистики задач пользователя - успешный сценарий")
+    void getTaskStatsByUser_Success() {
+        Long userId = 1L;
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        counts.put(TaskStatus.TODO, 3L);
+        counts.put(TaskStatus.IN_PROGRESS, 2L);
+        counts.put(TaskStatus.DONE, 1L);
+        when(taskRepository.getTaskCountsByStatus(userId)).thenReturn(counts);
+        when(taskRepository.countOverdueByUser(userId)).thenReturn(2L);
+
+        TaskStatsDto result = taskService.getTaskStatsByUser(userId);
+
+        assertEquals(new TaskStatsDto(userId, 6L, 3L, 2L, 1L, 2L), result);
+        verify(userService).findUserById(userId);
+    }
+
     @Test
     @DisplayName("Создание задачи - успешный сценарий")
     void createTask_Success() throws Exception {
@@ -224,6 +416,42 @@ public class TestServiceTest {
         verify(taskMapper).requestToTask(request);
         verify(taskRepository).save(task);
         verify(taskMapper).taskToDto(task);
+        verify(userTaskCacheKeys).evict(1L);
+        verify(reminderService).schedule(taskDto);
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(TaskChangeType.CREATED, taskDto));
+    }
+
+    @Test
+    @DisplayName("Создание задачи - вставка через групповой INSERT")
+    void createTask_Coalesced() {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setUserId(1L);
+        request.setTitle("Test Task");
+        User user = new User();
+        user.setId(1L);
+        Task task = new Task();
+        task.setTitle("Test Task");
+        Task inserted = new Task();
+        inserted.setId(1L);
+        inserted.setUserId(1L);
+        inserted.setTitle("Test Task");
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(1L);
+        taskDto.setUserId(1L);
+
+        when(userService.findUserById(request.getUserId())).thenReturn(user);
+        when(taskMapper.requestToTask(request)).thenReturn(task);
+        when(insertCoalescer.isEnabled()).thenReturn(true);
+        when(insertCoalescer.insert(task)).thenReturn(inserted);
+        when(taskMapper.taskToDto(inserted)).thenReturn(taskDto);
+
+        TaskDto result = taskService.createTask(request);
+
+        assertSame(taskDto, result);
+        assertEquals(1L, task.getUserId());
+        assertEquals(TaskStatus.TODO, task.getStatus());
+        verify(taskRepository, never()).save(any());
+        verify(reminderService).schedule(taskDto);
     }
 
     @Test
@@ -240,30 +468,65 @@ public class TestServiceTest {
         verifyNoInteractions(taskMapper, taskRepository);
     }
 
+    @Test
+    @DisplayName("Пакетное создание задач - успешный сценарий")
+    void createTasks_Success() {
+        CreateTaskRequest first = new CreateTaskRequest();
+        first.setUserId(1L);
+        CreateTaskRequest second = new CreateTaskRequest();
+        second.setUserId(1L);
+        CreateTaskRequest third = new CreateTaskRequest();
+        third.setUserId(2L);
+
+        Task firstTask = new Task();
+        Task secondTask = new Task();
+        Task thirdTask = new Task();
+        List<TaskDto> taskDtos = List.of(new TaskDto(), new TaskDto(), new TaskDto());
+
+        when(taskMapper.requestToTask(first)).thenReturn(firstTask);
+        when(taskMapper.requestToTask(second)).thenReturn(secondTask);
+        when(taskMapper.requestToTask(third)).thenReturn(thirdTask);
+        when(taskRepository.saveAll(List.of(firstTask, secondTask, thirdTask))).thenReturn(List.of(firstTask, secondTask, thirdTask));
+        when(taskMapper.listTaskToListTaskDto(List.of(firstTask, secondTask, thirdTask))).thenReturn(taskDtos);
+
+        List<TaskDto> result = taskService.createTasks(List.of(first, second, third));
+
+        assertEquals(3, result.size());
+        assertEquals(TaskStatus.TODO, firstTask.getStatus());
+        assertEquals(2L, thirdTask.getUserId());
+        verify(userService, times(1)).findUserById(1L);
+        verify(userService, times(1)).findUserById(2L);
+        verify(taskRepository).saveAll(anyList());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(userTaskCacheKeys).evict(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Пакетное создание задач - пользователь не найден")
+    void createTasks_UserNotFound() {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setUserId(1L);
+        when(userService.findUserById(1L)).thenThrow(new ObjectNotFoundException("User with id: 1 not found", timestamp));
+
+        assertThrows(ObjectNotFoundException.class,
+                () -> taskService.createTasks(List.of(request)));
+        verifyNoInteractions(taskMapper, taskRepository, userTaskCacheKeys);
+    }
+
     @Test
     @DisplayName("Запуск задачи - успешный сценарий")
     void startTask_Success() throws Exception {
         Long taskId = 1L;
         Long userId = 1L;
-        Task task = new Task();
-        task.setId(taskId);
-        task.setUserId(userId);
-        task.setTitle("Test Task");
-        task.setDescription("Test Description");
-        task.setStatus(TaskStatus.TODO);
-        task.setDeadline(timestamp);
-        task.setCreatedAt(timestamp);
-        task.setEndData(timestamp);
-
         Task updatedTask = new Task();
         updatedTask.setId(taskId);
         updatedTask.setUserId(userId);
         updatedTask.setTitle("Test Task");
         updatedTask.setDescription("Test Description");
         updatedTask.setStatus(TaskStatus.IN_PROGRESS);
-        updatedTask.setDeadline(task.getDeadline());
-        updatedTask.setCreatedAt(task.getCreatedAt());
-        updatedTask.setEndData(task.getEndData());
+        updatedTask.setDeadline(timestamp);
+        updatedTask.setCreatedAt(timestamp);
+        updatedTask.setEndData(timestamp);
 
         TaskDto taskDto = new TaskDto();
         taskDto.setId(taskId);
@@ -271,12 +534,11 @@ public class TestServiceTest {
         taskDto.setTitle("Test Task");
         taskDto.setDescription("Test Description");
         taskDto.setStatus(TaskStatus.IN_PROGRESS);
-        taskDto.setDeadline(task.getDeadline());
-        taskDto.setStart(task.getCreatedAt());
-        taskDto.setEnd(task.getEndData());
+        taskDto.setDeadline(updatedTask.getDeadline());
+        taskDto.setStart(updatedTask.getCreatedAt());
+        taskDto.setEnd(updatedTask.getEndData());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.startTask(taskId, userId)).thenReturn(Optional.of(updatedTask));
         when(taskMapper.taskToDto(updatedTask)).thenReturn(taskDto);
 
         TaskDto result = taskService.startTask(taskId, userId);
@@ -288,9 +550,38 @@ public class TestServiceTest {
                 objectMapper.writeValueAsString(result),
                 false
         );
-        verify(taskRepository).findById(taskId);
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).startTask(taskId, userId);
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any(Task.class));
         verify(taskMapper).taskToDto(updatedTask);
+        verify(userTaskCacheKeys).evict(userId);
+    }
+
+    @Test
+    @DisplayName("Запуск задачи - режим отложенной записи ставит переход в очередь")
+    void startTask_WriteBehind() {
+        Long taskId = 1L;
+        Long userId = 1L;
+        Task queuedTask = new Task();
+        queuedTask.setId(taskId);
+        queuedTask.setUserId(userId);
+        queuedTask.setStatus(TaskStatus.IN_PROGRESS);
+        queuedTask.setVersion(1L);
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(taskId);
+        taskDto.setUserId(userId);
+        taskDto.setStatus(TaskStatus.IN_PROGRESS);
+
+        when(transitionWriteBehind.isEnabled()).thenReturn(true);
+        when(transitionWriteBehind.transition(eq(taskId), eq(userId), eq(TaskStatus.IN_PROGRESS), isNull(), any()))
+                .thenReturn(queuedTask);
+        when(taskMapper.taskToDto(queuedTask)).thenReturn(taskDto);
+
+        TaskDto result = taskService.startTask(taskId, userId);
+
+        assertSame(taskDto, result);
+        verify(taskRepository, never()).startTask(any(), any());
+        verify(reminderService).reschedule(taskDto);
     }
 
     @Test
@@ -298,38 +589,89 @@ public class TestServiceTest {
     void startTask_NotFound() {
         Long taskId = 1L;
         Long userId = 1L;
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.startTask(taskId, userId)).thenReturn(Optional.empty());
+        when(taskRepository.findOwnerId(taskId)).thenReturn(Optional.empty());
 
         ObjectNotFoundException exception = assertThrows(ObjectNotFoundException.class,
                 () -> taskService.startTask(taskId, userId));
         assertEquals("Task with id: 1 not found", exception.getMessage());
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).startTask(taskId, userId);
         verifyNoInteractions(taskMapper);
     }
 
+    @Test
+    @DisplayName("Запуск задачи - доступ запрещен")
+    void startTask_AccessDenied() {
+        Long taskId = 1L;
+        Long userId = 2L;
+        when(taskRepository.startTask(taskId, userId)).thenReturn(Optional.empty());
+        when(taskRepository.findOwnerId(taskId)).thenReturn(Optional.of(1L));
+
+        assertThrows(AccessRightsException.class,
+                () -> taskService.startTask(taskId, userId));
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи - успешный сценарий")
+    void updateTask_Success() {
+        Long taskId = 1L;
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setUserId(1L);
+        request.setVersion(3L);
+        request.setTitle("Patched Task");
+
+        Task changes = new Task();
+        changes.setTitle("Patched Task");
+        Task updatedTask = new Task();
+        updatedTask.setId(taskId);
+        updatedTask.setVersion(4L);
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(taskId);
+        taskDto.setVersion(4L);
+
+        when(taskMapper.updateRequestToTask(request)).thenReturn(changes);
+        when(taskRepository.update(taskId, 1L, 3L, changes)).thenReturn(Optional.of(updatedTask));
+        when(taskMapper.taskToDto(updatedTask)).thenReturn(taskDto);
+
+        TaskDto result = taskService.updateTask(taskId, request);
+
+        assertEquals(4L, result.getVersion());
+        verify(taskRepository, never()).findOwnerId(any());
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи - конфликт версий")
+    void updateTask_VersionConflict() {
+        Long taskId = 1L;
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setUserId(1L);
+        request.setVersion(3L);
+        request.setTitle("Patched Task");
+        Task changes = new Task();
+
+        when(taskMapper.updateRequestToTask(request)).thenReturn(changes);
+        when(taskRepository.update(taskId, 1L, 3L, changes)).thenReturn(Optional.empty());
+        when(taskRepository.findOwnerId(taskId)).thenReturn(Optional.of(1L));
+
+        assertThrows(VersionConflictException.class,
+                () -> taskService.updateTask(taskId, request));
+        verify(taskMapper, never()).taskToDto(any());
+    }
+
     @Test
     @DisplayName("Завершение задачи - успешный сценарий")
     void endTask_Success() throws Exception {
         Long taskId = 1L;
         Long userId = 1L;
-        Task task = new Task();
-        task.setId(taskId);
-        task.setUserId(userId);
-        task.setTitle("Test Task");
-        task.setDescription("Test Description");
-        task.setStatus(TaskStatus.IN_PROGRESS);
-        task.setDeadline(timestamp);
-        task.setCreatedAt(timestamp);
-        task.setEndData(timestamp);
-
         Task updatedTask = new Task();
         updatedTask.setId(taskId);
         updatedTask.setUserId(userId);
         updatedTask.setTitle("Test Task");
         updatedTask.setDescription("Test Description");
         updatedTask.setStatus(TaskStatus.DONE);
-        updatedTask.setDeadline(task.getDeadline());
-        updatedTask.setCreatedAt(task.getCreatedAt());
+        updatedTask.setDeadline(timestamp);
+        updatedTask.setCreatedAt(timestamp);
         updatedTask.setEndData(timestamp);
 
         TaskDto taskDto = new TaskDto();
@@ -338,12 +680,11 @@ public class TestServiceTest {
         taskDto.setTitle("Test Task");
         taskDto.setDescription("Test Description");
         taskDto.setStatus(TaskStatus.DONE);
-        taskDto.setDeadline(task.getDeadline());
-        taskDto.setStart(task.getCreatedAt());
+        taskDto.setDeadline(updatedTask.getDeadline());
+        taskDto.setStart(updatedTask.getCreatedAt());
         taskDto.setEnd(updatedTask.getEndData());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.endTask(eq(taskId), eq(userId), any(Timestamp.class))).thenReturn(Optional.of(updatedTask));
         when(taskMapper.taskToDto(updatedTask)).thenReturn(taskDto);
         when(meterRegistry.counter("tasks.completed.total")).thenReturn(counter);
 
@@ -356,11 +697,13 @@ public class TestServiceTest {
                 objectMapper.writeValueAsString(result),
                 false
         );
-        verify(taskRepository).findById(taskId);
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).endTask(eq(taskId), eq(userId), any(Timestamp.class));
         verify(taskMapper).taskToDto(updatedTask);
         verify(meterRegistry).counter("tasks.completed.total");
         verify(counter).increment();
+        verify(reminderService).cancel(taskId);
+        verify(userTaskCacheKeys).evict(userId);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -368,12 +711,13 @@ public class TestServiceTest {
     void endTask_NotFound() {
         Long taskId = 1L;
         Long userId = 1L;
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.endTask(eq(taskId), eq(userId), any(Timestamp.class))).thenReturn(Optional.empty());
+        when(taskRepository.findOwnerId(taskId)).thenReturn(Optional.empty());
 
         ObjectNotFoundException exception = assertThrows(ObjectNotFoundException.class,
                 () -> taskService.endTask(taskId, userId));
         assertEquals("Task with id: 1 not found", exception.getMessage());
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findOwnerId(taskId);
         verifyNoInteractions(taskMapper, meterRegistry);
     }
 }
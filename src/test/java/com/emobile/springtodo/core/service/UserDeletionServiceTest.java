@@ -0,0 +1,168 @@
+package com.emobile.springtodo.core.service;
+
+import com.emobile.springtodo.core.config.properties.AppUserDeletionProperties;
+import com.emobile.springtodo.core.entity.db.TaskPartition;
+import com.emobile.springtodo.core.exception.ObjectNotFoundException;
+import com.emobile.springtodo.core.repository.TaskJDBCRepository;
+import com.emobile.springtodo.core.repository.TaskPartitionRepository;
+import com.emobile.springtodo.core.repository.UserJDBCRepository;
+import com.emobile.springtodo.core.service.cache.BatchCacheOperations;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.deletion.UserDeletionJob;
+import com.emobile.springtodo.core.service.deletion.UserDeletionService;
+import com.emobile.springtodo.core.service.deletion.UserDeletionStatus;
+import com.emobile.springtodo.core.service.reminder.ReminderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDeletionServiceTest {
+
+    @Mock
+    private UserJDBCRepository userRepository;
+
+    @Mock
+    private TaskJDBCRepository taskRepository;
+
+    @Mock
+    private TaskPartitionRepository partitionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BatchCacheOperations batchCacheOperations;
+
+    @Mock
+    private ReminderService reminderService;
+
+    private UserDeletionService deletionService;
+
+    @BeforeEach
+    void setUp() {
+        AppUserDeletionProperties properties = new AppUserDeletionProperties();
+        properties.setChunkSize(2);
+        properties.setPause(Duration.ZERO);
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+                "taskById", "tasksByUser", "taskCount", "taskCacheGeneration", "userById");
+        deletionService = new UserDeletionService(userRepository, taskRepository, partitionRepository, transactionManager, cacheManager,
+                batchCacheOperations, new UserTaskCacheKeys(cacheManager), Runnable::run, properties, reminderService);
+    }
+
+    @Test
+    @DisplayName("Удаление пользователя - задачи удаляются порциями, затем удаляется пользователь")
+    void start_DeletesTasksInChunks() {
+        when(userRepository.tombstone(1L)).thenReturn(true);
+        when(taskRepository.deleteChunkByUser(1L, 2))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        UserDeletionJob job = deletionService.start(1L);
+
+        assertEquals(UserDeletionStatus.COMPLETED, job.getStatus());
+        assertEquals(3L, job.getTasksDeleted());
+        assertNotNull(job.getFinishedAt());
+        verify(taskRepository, times(2)).deleteChunkByUser(1L, 2);
+        verify(batchCacheOperations).evictAll(any(), eq(List.of(1L, 2L)));
+        verify(batchCacheOperations).evictAll(any(), eq(List.of(3L)));
+        verify(reminderService).cancel(3L);
+        verify(userRepository).deleteTombstoned(1L);
+        assertSame(job, deletionService.getJob(1L));
+    }
+
+    @Test
+    @DisplayName("Удаление пользователя - задачи из отсоединенных секций удаляются в одной транзакции с пользователем")
+    void start_DeletesArchivedTasksWithUser() {
+        TaskPartition archive = TaskPartition.containing(LocalDate.of(2020, 1, 1));
+        when(userRepository.tombstone(1L)).thenReturn(true);
+        when(taskRepository.deleteChunkByUser(1L, 2)).thenReturn(List.of(1L));
+        when(partitionRepository.findDetached()).thenReturn(List.of(archive));
+        when(partitionRepository.deleteArchivedByUser(archive, 1L)).thenReturn(List.of(7L, 8L));
+
+        UserDeletionJob job = deletionService.start(1L);
+
+        assertEquals(UserDeletionStatus.COMPLETED, job.getStatus());
+        assertEquals(3L, job.getTasksDeleted());
+        verify(batchCacheOperations).evictAll(any(), eq(List.of(7L, 8L)));
+        InOrder inOrder = inOrder(transactionManager, partitionRepository, userRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(partitionRepository).deleteArchivedByUser(archive, 1L);
+        inOrder.verify(userRepository).deleteTombstoned(1L);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Удаление пользователя - сбой удаления пользователя откатывает удаление архивных задач")
+    void start_DeleteUserFails_RollsBack() {
+        TaskPartition archive = TaskPartition.containing(LocalDate.of(2020, 1, 1));
+        when(userRepository.tombstone(1L)).thenReturn(true);
+        when(taskRepository.deleteChunkByUser(1L, 2)).thenReturn(List.of());
+        when(partitionRepository.findDetached()).thenReturn(List.of(archive));
+        when(partitionRepository.deleteArchivedByUser(archive, 1L)).thenReturn(List.of(7L));
+        when(userRepository.deleteTombstoned(1L)).thenThrow(new IllegalStateException("fk_task_user"));
+
+        UserDeletionJob job = deletionService.start(1L);
+
+        assertEquals(UserDeletionStatus.FAILED, job.getStatus());
+        assertEquals(0L, job.getTasksDeleted());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(batchCacheOperations, never()).evictAll(any(), eq(List.of(7L)));
+    }
+
+    @Test
+    @DisplayName("Удаление пользователя - пользователь не найден")
+    void start_NotFound() {
+        when(userRepository.tombstone(1L)).thenReturn(false);
+
+        ObjectNotFoundException exception = assertThrows(ObjectNotFoundException.class,
+                () -> deletionService.start(1L));
+        assertEquals("User with id: 1 not found", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Удаление пользователя - после сбоя удаление можно запустить повторно")
+    void start_RetriesFailedJob() {
+        when(userRepository.tombstone(1L)).thenReturn(true).thenReturn(false);
+        when(taskRepository.deleteChunkByUser(1L, 2))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(List.of());
+
+        UserDeletionJob failed = deletionService.start(1L);
+        UserDeletionJob retried = deletionService.start(1L);
+
+        assertEquals(UserDeletionStatus.FAILED, failed.getStatus());
+        assertEquals("connection reset", failed.getError());
+        assertEquals(UserDeletionStatus.COMPLETED, retried.getStatus());
+        verify(userRepository).deleteTombstoned(1L);
+    }
+
+    @Test
+    @DisplayName("Возобновление удаления помеченных пользователей при старте")
+    void resumeTombstoned_Success() {
+        when(userRepository.findTombstonedIds()).thenReturn(List.of(5L));
+        when(taskRepository.deleteChunkByUser(5L, 2)).thenReturn(List.of());
+
+        deletionService.resumeTombstoned();
+
+        assertEquals(UserDeletionStatus.COMPLETED, deletionService.getJob(5L).getStatus());
+        verify(userRepository).deleteTombstoned(5L);
+    }
+}
@@ -7,6 +7,10 @@ import com.emobile.springtodo.core.exception.ObjectNotFoundException;
 import com.emobile.springtodo.core.exception.UserAlreadyExistsException;
 import com.emobile.springtodo.core.mapper.UserMapper;
 import com.emobile.springtodo.core.repository.UserJDBCRepository;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilter;
+import com.emobile.springtodo.core.repository.bloom.IdBloomFilters;
+import com.emobile.springtodo.core.service.deletion.UserDeletionJob;
+import com.emobile.springtodo.core.service.deletion.UserDeletionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.cache.annotation.EnableCaching;
@@ -37,6 +42,12 @@ public class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserDeletionService userDeletionService;
+
+    @Spy
+    private IdBloomFilters idBloomFilters = new IdBloomFilters();
+
     private ObjectMapper objectMapper;
 
     @InjectMocks
@@ -129,6 +140,17 @@ public class UserServiceTest {
         verify(userRepository).findById(userId);
     }
 
+    @Test
+    @DisplayName("Поиск пользователя по ID - фильтр Блума отсекает несуществующий ID")
+    void findUserById_RejectedByBloomFilter() {
+        idBloomFilters.users().rebuild(new IdBloomFilter(100, 0.001), consumer -> consumer.accept(1L));
+
+        ObjectNotFoundException exception = assertThrows(ObjectNotFoundException.class,
+                () -> userService.findUserById(999L));
+        assertEquals("User with id: 999 not found", exception.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     @DisplayName("Создание пользователя - успешный сценарий")
     void createUser_Success() throws Exception {
@@ -147,10 +169,8 @@ public class UserServiceTest {
         userDto.setUsername("testuser");
         userDto.setEmail("test@example.com");
 
-        when(userRepository.findByUsername(request.getUsername())).thenReturn(Optional.empty());
-        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.empty());
         when(userMapper.requestToUser(request)).thenReturn(user);
-        when(userRepository.save(user)).thenReturn(user);
+        when(userRepository.saveIfAbsent(user)).thenReturn(Optional.of(user));
         when(userMapper.userToDto(user)).thenReturn(userDto);
 
         UserDto result = userService.createUser(request);
@@ -162,11 +182,10 @@ public class UserServiceTest {
                 objectMapper.writeValueAsString(result),
                 false
         );
-        verify(userRepository).findByUsername(request.getUsername());
-        verify(userRepository).findByEmail(request.getEmail());
         verify(userMapper).requestToUser(request);
-        verify(userRepository).save(user);
+        verify(userRepository).saveIfAbsent(user);
         verify(userMapper).userToDto(user);
+        verifyNoMoreInteractions(userRepository);
     }
 
     @Test
@@ -175,19 +194,17 @@ public class UserServiceTest {
         CreateUserRequest request = new CreateUserRequest();
         request.setUsername("testuser");
         request.setEmail("test@example.com");
+        User user = new User();
 
-        User existingUser = new User();
-        existingUser.setId(1L);
-        existingUser.setUsername("testuser");
-
-        when(userRepository.findByUsername(request.getUsername())).thenReturn(Optional.of(existingUser));
+        when(userMapper.requestToUser(request)).thenReturn(user);
+        when(userRepository.saveIfAbsent(user)).thenReturn(Optional.empty());
+        when(userRepository.findConflictingColumn("testuser", "test@example.com")).thenReturn(Optional.of("username"));
 
         UserAlreadyExistsException exception = assertThrows(UserAlreadyExistsException.class,
                 () -> userService.createUser(request));
         assertEquals("User with username: testuser already exists. Try a different name.", exception.getMessage());
-        verify(userRepository).findByUsername(request.getUsername());
-        verifyNoMoreInteractions(userRepository);
-        verifyNoInteractions(userMapper);
+        assertEquals("username", exception.getColumn());
+        verify(userMapper, never()).userToDto(any());
     }
 
     @Test
@@ -196,31 +213,30 @@ public class UserServiceTest {
         CreateUserRequest request = new CreateUserRequest();
         request.setUsername("testuser");
         request.setEmail("test@example.com");
+        User user = new User();
 
-        User existingUser = new User();
-        existingUser.setId(1L);
-        existingUser.setEmail("test@example.com");
-
-        when(userRepository.findByUsername(request.getUsername())).thenReturn(Optional.empty());
-        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(existingUser));
+        when(userMapper.requestToUser(request)).thenReturn(user);
+        when(userRepository.saveIfAbsent(user)).thenReturn(Optional.empty());
+        when(userRepository.findConflictingColumn("testuser", "test@example.com")).thenReturn(Optional.of("email"));
 
         UserAlreadyExistsException exception = assertThrows(UserAlreadyExistsException.class,
                 () -> userService.createUser(request));
         assertEquals("User with email: test@example.com already exists. Try a different email.", exception.getMessage());
-        verify(userRepository).findByUsername(request.getUsername());
-        verify(userRepository).findByEmail(request.getEmail());
-        verifyNoMoreInteractions(userRepository);
-        verifyNoInteractions(userMapper);
+        assertEquals("email", exception.getColumn());
+        verify(userMapper, never()).userToDto(any());
     }
 
     @Test
     @DisplayName("Удаление пользователя - успешный сценарий")
     void deleteUser_Success() {
         Long userId = 1L;
-        doNothing().when(userRepository).deleteById(userId);
+        UserDeletionJob job = new UserDeletionJob(userId);
+        when(userDeletionService.start(userId)).thenReturn(job);
 
-        userService.deleteUser(userId);
+        UserDeletionJob result = userService.deleteUser(userId);
 
-        verify(userRepository).deleteById(userId);
+        assertSame(job, result);
+        verify(userDeletionService).start(userId);
+        verifyNoInteractions(userRepository);
     }
 }
@@ -11,6 +11,8 @@ import com.emobile.springtodo.core.repository.cantainer.RedisContainer4Test;
 import com.emobile.springtodo.core.repository.cantainer.TestPostgresContainerConfig;
 import com.emobile.springtodo.core.service.TaskService;
 import com.emobile.springtodo.core.service.UserService;
+import com.emobile.springtodo.core.service.cache.UserTaskCacheKeys;
+import com.emobile.springtodo.core.service.pagination.TaskFilter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -58,6 +60,9 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
     @Autowired
     private TaskJDBCRepository taskRepository;
 
+    @Autowired
+    private UserTaskCacheKeys userTaskCacheKeys;
+
     @BeforeEach
     void setUp() {
         redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
@@ -75,6 +80,7 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
         taskDto.setStatus(TaskStatus.TODO);
         taskDto.setDeadline(Timestamp.valueOf("2025-07-11 12:00:00"));
         taskDto.setStart(Timestamp.valueOf("2025-07-10 12:00:00"));
+        taskDto.setVersion(0L);
 
         assertTrue(redisTemplate.keys("*").isEmpty(), "Кэш должен быть пустым изначально");
 
@@ -107,6 +113,25 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
         assertEquals(taskDto, result, "Возвращенная задача должна соответствовать кэшированной");
     }
 
+    @Test
+    @DisplayName("Получение задач по списку ID - промахи дозаписываются в кэш")
+    void whenGetTasksByIds_thenBackfillCache() {
+        TaskDto cached = new TaskDto();
+        cached.setId(2L);
+        cached.setTitle("Cached Task");
+        redisTemplate.opsForValue().set(AppCacheProperties.CacheNames.TASK_BY_ID + "::2", cached);
+
+        List<TaskDto> result = taskService.getTasksByIds(List.of(2L, 1L, 99L));
+
+        assertEquals(2, result.size(), "Несуществующие задачи не должны попадать в ответ");
+        assertEquals(cached, result.get(0), "Задача из кэша должна вернуться без обращения к базе");
+        assertEquals(1L, result.get(1).getId(), "Задачи должны возвращаться в порядке запроса");
+        assertEquals(result.get(1), redisTemplate.opsForValue().get(AppCacheProperties.CacheNames.TASK_BY_ID + "::1"),
+                "Промах кэша должен быть дозаписан");
+        assertTrue(redisTemplate.getExpire(AppCacheProperties.CacheNames.TASK_BY_ID + "::1") > 0,
+                "Дозаписанная запись должна иметь TTL");
+    }
+
     @Test
     @DisplayName("Получение задач пользователя - кэш заполняется")
     void whenGetTasksByUser_thenPopulateCache() {
@@ -121,6 +146,7 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
         taskDto.setStatus(TaskStatus.TODO);
         taskDto.setDeadline(Timestamp.valueOf("2025-07-11 12:00:00"));
         taskDto.setStart(Timestamp.valueOf("2025-07-10 12:00:00"));
+        taskDto.setVersion(0L);
 
         TaskDto taskDto2 = new TaskDto();
         taskDto2.setId(2L);
@@ -130,6 +156,7 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
         taskDto2.setStatus(TaskStatus.IN_PROGRESS);
         taskDto2.setDeadline(Timestamp.valueOf("2025-07-11 12:00:00"));
         taskDto2.setStart(Timestamp.valueOf("2025-07-10 12:00:00"));
+        taskDto2.setVersion(0L);
 
         assertTrue(redisTemplate.keys("*").isEmpty(), "Кэш должен быть пустым изначально");
 
@@ -140,10 +167,29 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
 
         assertEquals(List.of(taskDto, taskDto2), result, "Возвращенные задачи должны соответствовать ожидаемым");
         assertFalse(redisTemplate.keys("*").isEmpty(), "Кэш должен содержать записи после вызова");
-        assertNotNull(redisTemplate.opsForValue().get(AppCacheProperties.CacheNames.TASKS_BY_USER + "::" + userId + "," + limit + "," + offset),
+        assertNotNull(redisTemplate.opsForValue().get(AppCacheProperties.CacheNames.TASKS_BY_USER + "::" + userTaskCacheKeys.namespace(userId) + "," + limit + "," + offset),
                 "Кэш должен содержать задачи пользователя");
     }
 
+    @Test
+    @DisplayName("Получение задач пользователя с фильтром - ключ кэша включает фильтр")
+    void whenGetTasksByUserFiltered_thenCacheKeyContainsFilter() {
+        Long userId = 1L;
+        TaskFilter todo = new TaskFilter(TaskStatus.TODO, null, null, null, null);
+        TaskFilter inProgress = new TaskFilter(TaskStatus.IN_PROGRESS, null, null, null, null);
+
+        List<TaskDto> todoTasks = taskService.getTasksByUser(userId, todo, 10, 0);
+        List<TaskDto> inProgressTasks = taskService.getTasksByUser(userId, inProgress, 10, 0);
+
+        assertEquals(List.of(1L), todoTasks.stream().map(TaskDto::getId).toList());
+        assertEquals(List.of(2L), inProgressTasks.stream().map(TaskDto::getId).toList());
+        String namespace = userTaskCacheKeys.namespace(userId);
+        assertNotNull(redisTemplate.opsForValue().get(AppCacheProperties.CacheNames.TASKS_BY_USER + "::" + namespace + ",10,0," + todo.cacheKey()),
+                "Кэш должен содержать задачи пользователя по фильтру TODO");
+        assertNotNull(redisTemplate.opsForValue().get(AppCacheProperties.CacheNames.TASKS_BY_USER + "::" + namespace + ",10,0," + inProgress.cacheKey()),
+                "Кэш должен содержать задачи пользователя по фильтру IN_PROGRESS");
+    }
+
     @Test
     @DisplayName("Получение задач пользователя - кэш-хит")
     void whenGetTasksByUserCacheHit_thenReturnCachedTasks() {
@@ -168,7 +214,7 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
         taskDto2.setDeadline(Timestamp.valueOf("2025-07-11 12:00:00"));
         taskDto2.setStart(Timestamp.valueOf("2025-07-10 12:00:00"));
 
-        redisTemplate.opsForValue().set(AppCacheProperties.CacheNames.TASKS_BY_USER + userId + "," + limit + "," + offset, List.of(taskDto, taskDto2));
+        redisTemplate.opsForValue().set(AppCacheProperties.CacheNames.TASKS_BY_USER + "::" + userTaskCacheKeys.namespace(userId) + "," + limit + "," + offset, List.of(taskDto, taskDto2));
         assertFalse(redisTemplate.keys("*").isEmpty(), "Кэш должен содержать записи");
 
         List<TaskDto> result = taskService.getTasksByUser(userId, limit, offset);
@@ -187,7 +233,7 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
 
         assertEquals(2L, result, "Возвращенное количество задач должно быть 2");
         assertFalse(redisTemplate.keys("*").isEmpty(), "Кэш должен содержать записи после вызова");
-        assertNotNull(redisTemplate.opsForValue().get(AppCacheProperties.CacheNames.TASK_COUNT + "::" + userId),
+        assertNotNull(redisTemplate.opsForValue().get(AppCacheProperties.CacheNames.TASK_COUNT + "::" + userTaskCacheKeys.namespace(userId)),
                 "Кэш должен содержать количество задач пользователя");
     }
 
@@ -195,7 +241,7 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
     @DisplayName("Получение количества задач пользователя - кэш-хит")
     void whenGetTaskCountByUserCacheHit_thenReturnCachedCount() {
         Long userId = 1L;
-        redisTemplate.opsForValue().set(AppCacheProperties.CacheNames.TASK_COUNT + "::" + userId, 2L);
+        redisTemplate.opsForValue().set(AppCacheProperties.CacheNames.TASK_COUNT + "::" + userTaskCacheKeys.namespace(userId), 2L);
         assertFalse(redisTemplate.keys("*").isEmpty(), "Кэш должен содержать записи");
 
         Long result = taskService.getTaskCountByUser(userId);
@@ -204,40 +250,79 @@ public class TaskServiceCachingIntegrationTest extends RedisContainer4Test {
     }
 
     @Test
-    @DisplayName("Создание задачи - очищает кэш")
-    void whenCreateTask_thenEvictCache() {
+    @DisplayName("Создание задачи - следующее чтение списков и счётчиков видит новую задачу")
+    void whenCreateTask_thenUserListsAndCountsRefreshed() {
         Long userId = 1L;
-        CreateTaskRequest request = new CreateTaskRequest();
-        request.setUserId(userId);
-        request.setTitle("New Task");
-        request.setDescription("New Description");
-        request.setDeadline(Timestamp.valueOf("2025-07-12 12:00:00"));
+        TaskFilter todo = new TaskFilter(TaskStatus.TODO, null, null, null, null);
+        assertEquals(2, taskService.getTasksByUser(userId, 10, 0).size());
+        assertEquals(1, taskService.getTasksByUser(userId, todo, 10, 0).size());
+        assertEquals(2L, taskService.getTaskCountByUser(userId));
+        assertEquals(1L, taskService.getTaskCountByUser(userId, todo));
+        when(userService.findUserById(userId)).thenReturn(user(userId));
+
+        TaskDto created = taskService.createTask(createRequest(userId, "New Task"));
+
+        assertTrue(taskService.getTasksByUser(userId, 10, 0).stream().anyMatch(task -> task.getId().equals(created.getId())),
+                "Список задач пользователя должен содержать новую задачу");
+        assertEquals(2, taskService.getTasksByUser(userId, todo, 10, 0).size(),
+                "Отфильтрованный список должен содержать новую задачу");
+        assertEquals(3L, taskService.getTaskCountByUser(userId), "Счётчик задач должен учитывать новую задачу");
+        assertEquals(2L, taskService.getTaskCountByUser(userId, todo), "Отфильтрованный счётчик должен учитывать новую задачу");
+    }
 
-        User user = new User();
-        user.setId(userId);
+    @Test
+    @DisplayName("Пакетное создание задач - кэш списков обновляется для каждого затронутого пользователя")
+    void whenCreateTasks_thenEachUserListRefreshed() {
+        assertEquals(2L, taskService.getTaskCountByUser(1L));
+        assertEquals(0L, taskService.getTaskCountByUser(2L));
+        assertTrue(taskService.getTasksByUser(2L, 10, 0).isEmpty());
+        when(userService.findUserById(1L)).thenReturn(user(1L));
+        when(userService.findUserById(2L)).thenReturn(user(2L));
+
+        taskService.createTasks(List.of(
+                createRequest(1L, "Batch Task 1"),
+                createRequest(2L, "Batch Task 2")
+        ));
+
+        assertEquals(3L, taskService.getTaskCountByUser(1L));
+        assertEquals(1L, taskService.getTaskCountByUser(2L));
+        assertEquals(List.of("Batch Task 2"), taskService.getTasksByUser(2L, 10, 0).stream().map(TaskDto::getTitle).toList());
+    }
 
-        TaskDto taskDto = new TaskDto();
-        taskDto.setId(3L);
-        taskDto.setUserId(userId);
-        taskDto.setTitle("New Task");
-        taskDto.setDescription("New Description");
-        taskDto.setStatus(TaskStatus.TODO);
-        taskDto.setDeadline(Timestamp.valueOf("2025-07-12 12:00:00"));
-        taskDto.setStart(null);
+    @Test
+    @DisplayName("Запуск и завершение задачи - кэш списков и счётчиков по статусу обновляется")
+    void whenStartAndEndTask_thenStatusFilteredCachesRefreshed() {
+        Long userId = 1L;
+        TaskFilter todo = new TaskFilter(TaskStatus.TODO, null, null, null, null);
+        TaskFilter inProgress = new TaskFilter(TaskStatus.IN_PROGRESS, null, null, null, null);
+        TaskFilter done = new TaskFilter(TaskStatus.DONE, null, null, null, null);
+        assertEquals(1L, taskService.getTaskCountByUser(userId, todo));
+        assertEquals(List.of(2L), taskService.getTasksByUser(userId, inProgress, 10, 0).stream().map(TaskDto::getId).toList());
+        assertTrue(taskService.getTasksByUser(userId, done, 10, 0).isEmpty());
 
-        redisTemplate.opsForValue().set(AppCacheProperties.CacheNames.TASKS_BY_USER + "::" + userId + ",10,0", List.of(new TaskDto()));
-        redisTemplate.opsForValue().set(AppCacheProperties.CacheNames.TASK_COUNT + "::" + userId, 2L);
-        assertFalse(redisTemplate.keys("*").isEmpty(), "Кэш должен содержать записи");
+        taskService.startTask(1L, userId);
 
-        when(userService.findUserById(userId)).thenReturn(user);
+        assertEquals(0L, taskService.getTaskCountByUser(userId, todo));
+        assertEquals(List.of(1L, 2L), taskService.getTasksByUser(userId, inProgress, 10, 0).stream().map(TaskDto::getId).sorted().toList());
 
-        TaskDto result = taskService.createTask(request);
-        result.setStart(null);
+        taskService.endTask(2L, userId);
 
-        assertEquals(taskDto, result, "Возвращенная задача должна соответствовать ожидаемой");
-        assertNull(redisTemplate.opsForValue().get("tasks_user::" + userId + ",10,0"),
-                "Кэш задач пользователя должен быть очищен");
-        assertNull(redisTemplate.opsForValue().get("task_count::" + userId),
-                "Кэш количества задач должен быть очищен");
+        assertEquals(List.of(2L), taskService.getTasksByUser(userId, done, 10, 0).stream().map(TaskDto::getId).toList());
+        assertEquals(1L, taskService.getTaskCountByUser(userId, inProgress));
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static CreateTaskRequest createRequest(Long userId, String title) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setUserId(userId);
+        request.setTitle(title);
+        request.setDescription("New Description");
+        request.setDeadline(Timestamp.valueOf("2025-07-12 12:00:00"));
+        return request;
     }
 }
@@ -0,0 +1,80 @@
+package com.emobile.springtodo.core.service.reminder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("Колесо таймеров - срабатывание не раньше срока в пределах первого уровня")
+    void advanceTo_FiresWithinFirstLevel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(35, "a");
+        wheel.schedule(50, "b");
+
+        wheel.advanceTo(39, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advanceTo(40, fired::add);
+        assertEquals(List.of("a"), fired);
+
+        wheel.advanceTo(60, fired::add);
+        assertEquals(List.of("a", "b"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Колесо таймеров - каскадирование с верхних уровней")
+    void advanceTo_CascadesFromOverflowLevels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 4, 0);
+        List<Long> fired = new ArrayList<>();
+        long[] expirations = {15, 45, 170, 650, 2_555};
+        for (long expiration : expirations) {
+            assertNotNull(wheel.schedule(expiration, expiration));
+        }
+
+        for (long now = 0; now <= 3_000; now += 10) {
+            int before = fired.size();
+            wheel.advanceTo(now, fired::add);
+            for (int i = before; i < fired.size(); i++) {
+                long expiration = fired.get(i);
+                assertTrue(expiration <= now && now - expiration <= 10,
+                        "Таймер " + expiration + " сработал в " + now);
+            }
+        }
+        assertEquals(List.of(15L, 45L, 170L, 650L, 2_555L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Колесо таймеров - отмена таймера")
+    void cancel_RemovesTimeout() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 0);
+        List<String> fired = new ArrayList<>();
+        HierarchicalTimingWheel.Timeout<String> near = wheel.schedule(20, "near");
+        HierarchicalTimingWheel.Timeout<String> far = wheel.schedule(500, "far");
+
+        assertTrue(near.cancel());
+        assertTrue(far.cancel());
+        assertFalse(far.cancel());
+        wheel.advanceTo(1_000, fired::add);
+
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Колесо таймеров - истекший таймер не планируется")
+    void schedule_AlreadyExpired() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 100);
+
+        assertNull(wheel.schedule(95, "late"));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -1,4 +1,6 @@
 DELETE FROM tasks;
+DELETE FROM user_task_counters;
 DELETE FROM users;
+DELETE FROM outbox;
 ALTER SEQUENCE users_id_seq RESTART WITH 1;
 ALTER SEQUENCE tasks_id_seq RESTART WITH 1;
\ No newline at end of file
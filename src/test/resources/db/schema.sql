@@ -4,11 +4,12 @@ CREATE TABLE users(
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     username VARCHAR(50) NOT NULL UNIQUE,
     email VARCHAR(255) NOT NULL UNIQUE,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    deleted_at TIMESTAMP
 );
 
 CREATE TABLE tasks(
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
     user_id BIGINT NOT NULL,
     title VARCHAR(128) NOT NULL,
     description TEXT,
@@ -16,5 +17,71 @@ CREATE TABLE tasks(
     deadline TIMESTAMP,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
     end_date TIMESTAMP,
+    version BIGINT DEFAULT 0 NOT NULL,
+    overdue BOOLEAN DEFAULT false NOT NULL,
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED,
+    PRIMARY KEY (id, created_at),
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
-);
\ No newline at end of file
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE tasks_default PARTITION OF tasks DEFAULT;
+
+CREATE INDEX idx_tasks_user_id_id ON tasks (user_id, id);
+
+CREATE INDEX idx_tasks_user_id_status_id ON tasks (user_id, status, id);
+
+CREATE INDEX idx_tasks_user_id_deadline_id ON tasks (user_id, deadline, id);
+
+CREATE INDEX idx_tasks_user_id_created_at_id ON tasks (user_id, created_at, id);
+
+CREATE INDEX idx_tasks_user_id_status_deadline_id ON tasks (user_id, status, deadline, id);
+
+CREATE INDEX idx_tasks_user_id_status_created_at_id ON tasks (user_id, status, created_at, id);
+
+CREATE INDEX idx_tasks_deadline_id_pending_overdue ON tasks (deadline, id) WHERE status <> 'DONE' AND overdue = false;
+
+CREATE INDEX idx_tasks_user_id_overdue ON tasks (user_id) WHERE status <> 'DONE' AND overdue = true;
+
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX idx_tasks_user_id_search_vector ON tasks USING GIN (user_id, search_vector);
+
+CREATE TABLE outbox(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(32) NOT NULL,
+    task_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE user_task_counters(
+    user_id BIGINT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    task_count BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (user_id, status)
+);
+
+CREATE OR REPLACE FUNCTION update_user_task_counters() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.user_id = NEW.user_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE user_task_counters SET task_count = task_count - 1
+        WHERE user_id = OLD.user_id AND status = OLD.status::text;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO user_task_counters (user_id, status, task_count)
+        VALUES (NEW.user_id, NEW.status::text, 1)
+        ON CONFLICT (user_id, status) DO UPDATE SET task_count = user_task_counters.task_count + 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tasks_user_task_counters AFTER INSERT OR DELETE OR UPDATE OF status, user_id ON tasks
+    FOR EACH ROW EXECUTE FUNCTION update_user_task_counters();